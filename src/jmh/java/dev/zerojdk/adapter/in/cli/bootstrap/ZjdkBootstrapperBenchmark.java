@@ -0,0 +1,36 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of wiring the runtime. The single shot over many forks is what every CLI invocation pays, including class
+ * loading, the steady state shows the work left once everything is loaded.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZjdkBootstrapperBenchmark {
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(20)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public ZjdkRuntime coldBootstrap() {
+        return ZjdkBootstrapper.bootstrap();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Fork(1)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public ZjdkRuntime warmBootstrap() {
+        return ZjdkBootstrapper.bootstrap();
+    }
+}
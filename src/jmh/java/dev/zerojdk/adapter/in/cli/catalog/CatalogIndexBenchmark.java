@@ -0,0 +1,118 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catalog queries against a synthetic index. Opening includes stamping the catalog, mapping the file and validating
+ * the header, which is what a single CLI invocation pays on top of one query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CatalogIndexBenchmark {
+    private static final String PLATFORM = "Linux/amd64";
+    private static final String VERSION = "benchmark";
+
+    @Param({"1000", "10000"})
+    private int entries;
+
+    private Path file;
+    private Path catalog;
+    private CatalogIndex index;
+    private String identifier;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("catalog", ".idx");
+        catalog = Files.createTempFile("catalog", ".json");
+
+        Map<String, List<JdkVersion>> distributions = new LinkedHashMap<>();
+        Map<String, Byte> flags = new HashMap<>();
+        int perDistribution = entries / 20;
+
+        for (int d = 0; d < 20; d++) {
+            List<JdkVersion> versions = new ArrayList<>();
+
+            for (int i = 0; i < perDistribution; i++) {
+                versions.add(version("dist" + d, 8 + i % 17, i));
+            }
+
+            versions.stream()
+                .max(Comparator.comparing(JdkVersion::getMajorVersion))
+                .ifPresent(v -> flags.put(v.getIdentifier(),
+                    (byte) (CatalogIndex.LATEST | CatalogIndex.LATEST_OF_DISTRIBUTION)));
+            distributions.put("dist" + d, versions);
+        }
+
+        CatalogIndex.write(file, PLATFORM, VERSION, CatalogIndex.stamp(catalog), distributions, flags);
+        index = CatalogIndex.open(file, PLATFORM, VERSION, CatalogIndex.stamp(catalog)).orElseThrow();
+        identifier = distributions.get("dist10").get(perDistribution / 2).getIdentifier();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(catalog);
+    }
+
+    @Benchmark
+    public Optional<CatalogIndex> open() {
+        return CatalogIndex.open(file, PLATFORM, VERSION, CatalogIndex.stamp(catalog));
+    }
+
+    @Benchmark
+    public Map<String, List<JdkVersion>> findLatest() {
+        return index.findLatest(null);
+    }
+
+    @Benchmark
+    public Optional<JdkVersion> findByIdentifier() {
+        return index.findByIdentifier(null, identifier);
+    }
+
+    @Benchmark
+    public List<JdkVersion> findAllByDistribution() {
+        return index.findAllByDistribution(null, "dist10");
+    }
+
+    private static JdkVersion version(String distribution, int major, int patch) {
+        JdkVersion version = new JdkVersion();
+        version.setDistribution(distribution);
+        version.setDistributionVersion(major + ".0." + patch);
+        version.setJavaVersion(major + ".0." + patch);
+        version.setMajorVersion(major);
+        version.setIdentifier(distribution + "-" + major + ".0." + patch);
+        version.setSupport(major % 4 == 1 ? JdkVersion.Support.LTS : JdkVersion.Support.NON_LTS);
+        version.setLink("https://example.com/" + distribution);
+
+        return version;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import picocli.CommandLine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the grouped command list shown by 'zjdk --help'.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommandGroupRendererBenchmark {
+    private CommandGroupRenderer renderer;
+    private CommandLine.Help help;
+
+    @Setup
+    public void setUp() {
+        Map<String, List<String>> sections = HelpSections.ZJDK;
+
+        CommandLine commandLine = new CommandLine(CommandLine.Model.CommandSpec.create().name("zjdk"));
+        sections.values().stream().flatMap(List::stream).forEach(name -> {
+            CommandLine.Model.CommandSpec sub = CommandLine.Model.CommandSpec.create().name(name);
+            sub.usageMessage().header("Header of the '" + name + "' command, long enough to be wrapped by the table");
+            commandLine.addSubcommand(name, new CommandLine(sub));
+        });
+
+        renderer = new CommandGroupRenderer(sections);
+        help = new CommandLine.Help(commandLine.getCommandSpec(), CommandLine.Help.defaultColorScheme(CommandLine.Help.Ansi.OFF));
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(help);
+    }
+}
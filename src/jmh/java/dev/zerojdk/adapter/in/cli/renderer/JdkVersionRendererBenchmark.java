@@ -0,0 +1,66 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import dev.zerojdk.adapter.in.cli.console.Console;
+import dev.zerojdk.domain.model.JdkVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Rendering of 'list available --all', dominated by merging the variants of a distribution version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JdkVersionRendererBenchmark {
+    @Param({"100", "5000"})
+    private int versions;
+
+    private List<JdkVersion> catalog;
+    private JdkVersionRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        // three variants per distribution version, as with JavaFX bundles and CRaC builds
+        catalog = IntStream.range(0, versions)
+            .mapToObj(i -> version("21.0." + (i / 3), "temurin-21.0." + (i / 3) + "-" + (i % 3)))
+            .toList();
+        renderer = new JdkVersionRenderer(new Console(new PrintStream(OutputStream.nullOutputStream())));
+    }
+
+    @Benchmark
+    public void render() {
+        renderer.render(catalog, 0, Comparator.comparing(JdkVersion::getDistributionVersion));
+    }
+
+    private static JdkVersion version(String distributionVersion, String identifier) {
+        JdkVersion version = new JdkVersion();
+        version.setDistribution("Temurin");
+        version.setDistributionVersion(distributionVersion);
+        version.setJavaVersion(distributionVersion);
+        version.setMajorVersion(21);
+        version.setIdentifier(identifier);
+        version.setSupport(JdkVersion.Support.LTS);
+        version.setLink("https://adoptium.net");
+
+        return version;
+    }
+}
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+#
+# Measures the end-to-end wall time of 'zjdk env', the command the shell hooks run on every prompt.
+#
+# usage: native-env-walltime.sh [binary] [runs] [directory]
+#
+#   binary     native executable to measure (default: target/zjdk)
+#   runs       number of measured runs after 5 warm-up runs (default: 100)
+#   directory  directory to run in, typically a project with a .zjdk configuration (default: current directory)
+#
+# Set ZJDK_ENV_BUDGET_MS to fail when the median exceeds the budget, e.g. in a release pipeline.
+
+set -euo pipefail
+
+source "$(dirname "${BASH_SOURCE[0]}")/timer.sh"
+
+binary="$(realpath "${1:-target/zjdk}")"
+runs="${2:-100}"
+directory="${3:-$PWD}"
+
+if [ ! -x "$binary" ]; then
+  echo "No executable at '$binary', build it with: ./mvnw -Pnative package" >&2
+  exit 1
+fi
+
+cd "$directory"
+
+if command -v hyperfine >/dev/null 2>&1; then
+  report="$(mktemp)"
+  trap 'rm -f "$report"' EXIT
+
+  hyperfine --warmup 5 --runs "$runs" --shell=none --export-json "$report" "$binary env"
+
+  # hyperfine reports seconds, the budget is checked against microseconds like the fallback below
+  median=$(sed -n 's/^ *"median": *\([0-9.eE+-]*\),*$/\1/p' "$report" | head -n 1 | awk '{ printf "%d", $1 * 1000000 }')
+  : "${median:?No median in the hyperfine report}"
+else
+  for _ in 1 2 3 4 5; do
+    "$binary" env >/dev/null 2>&1 || true
+  done
+
+  samples=()
+  for _ in $(seq "$runs"); do
+    start=$(now_us)
+    "$binary" env >/dev/null 2>&1 || true
+    end=$(now_us)
+    samples+=($(( end - start )))
+  done
+
+  sorted=($(printf '%s\n' "${samples[@]}" | sort -n))
+  count=${#sorted[@]}
+  min=${sorted[0]}
+  median=${sorted[$(( count / 2 ))]}
+  p95=${sorted[$(( count * 95 / 100 ))]}
+  max=${sorted[$(( count - 1 ))]}
+
+  printf 'zjdk env (%d runs): min %d.%03d ms, median %d.%03d ms, p95 %d.%03d ms, max %d.%03d ms\n' "$count" \
+    $(( min / 1000 )) $(( min % 1000 )) $(( median / 1000 )) $(( median % 1000 )) \
+    $(( p95 / 1000 )) $(( p95 % 1000 )) $(( max / 1000 )) $(( max % 1000 ))
+fi
+
+if [ -n "${ZJDK_ENV_BUDGET_MS:-}" ] && [ "$median" -gt $(( ZJDK_ENV_BUDGET_MS * 1000 )) ]; then
+  printf 'Median of %d.%03d ms exceeds the budget of %s ms\n' $(( median / 1000 )) $(( median % 1000 )) \
+    "$ZJDK_ENV_BUDGET_MS" >&2
+  exit 1
+fi
@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+#
+# Reports the startup time and peak RSS of native builds, as a Markdown table that can be appended to a CI job
+# summary or pasted into a pull request.
+#
+# usage: native-startup-report.sh [binary...]
+#
+#   binary  native executables to compare, e.g. target/zjdk and a PGO build (default: target/zjdk)
+#
+# Each command runs ZJDK_REPORT_RUNS times (default: 20) in the current directory after one warm-up run. The time
+# is the median wall time, the RSS the largest maximum resident set size of all runs. A command failing its warm-up
+# run is reported as failed rather than timed. 'list installed' needs a catalog, run 'zjdk update' first.
+
+set -euo pipefail
+
+if [ $# -eq 0 ]; then
+  set -- target/zjdk
+fi
+
+runs="${ZJDK_REPORT_RUNS:-20}"
+commands=("--version" "env" "list installed")
+
+source "$(dirname "${BASH_SOURCE[0]}")/timer.sh"
+
+# prints the maximum resident set size of the given command in KiB, or nothing without /usr/bin/time
+max_rss_kib() {
+  if [ ! -x /usr/bin/time ]; then
+    return
+  elif [ "$(uname)" = "Darwin" ]; then
+    /usr/bin/time -l "$@" 2>&1 >/dev/null | awk '/maximum resident set size/ { print int($1 / 1024) }'
+  else
+    /usr/bin/time -f '%M' "$@" 2>&1 >/dev/null | tail -n 1
+  fi
+}
+
+echo "| binary | command | median | max RSS |"
+echo "|---|---|---:|---:|"
+
+for binary in "$@"; do
+  if [ ! -x "$binary" ]; then
+    echo "No executable at '$binary', build it with: ./mvnw -Pnative package" >&2
+    exit 1
+  fi
+
+  for command in "${commands[@]}"; do
+    read -ra args <<< "$command"
+
+    # a failing command, e.g. 'list installed' without a catalog, would only time its error path
+    if ! "$binary" "${args[@]}" >/dev/null 2>&1; then
+      printf '| %s | %s | failed | n/a |\n' "$(basename "$binary")" "$command"
+      continue
+    fi
+
+    samples=()
+    rss=0
+    for _ in $(seq "$runs"); do
+      start=$(now_us)
+      "$binary" "${args[@]}" >/dev/null 2>&1 || true
+      end=$(now_us)
+      samples+=($(( end - start )))
+
+      current=$(max_rss_kib "$binary" "${args[@]}" || true)
+      if [[ "$current" =~ ^[0-9]+$ ]] && [ "$current" -gt "$rss" ]; then
+        rss=$current
+      fi
+    done
+
+    sorted=($(printf '%s\n' "${samples[@]}" | sort -n))
+    median=${sorted[$(( ${#sorted[@]} / 2 ))]}
+
+    if [ "$rss" -gt 0 ]; then
+      rss_text="$(( rss / 1024 )).$(( rss % 1024 * 10 / 1024 )) MiB"
+    else
+      rss_text="n/a"
+    fi
+
+    printf '| %s | %s | %d.%03d ms | %s |\n' "$(basename "$binary")" "$command" \
+      $(( median / 1000 )) $(( median % 1000 )) "$rss_text"
+  done
+done
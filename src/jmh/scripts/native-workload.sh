@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+#
+# Runs the commands the CLI spends its life on: 'env' from the shell hooks, 'list' and 'sync'. Used to train a
+# profile-guided build.
+#
+# usage: native-workload.sh [command...]
+#
+#   command  how to start zjdk (default: target/zjdk-instrumented)
+#
+# Run it from the repository root. The steps run in ZJDK_WORKLOAD_DIR (default: the current directory, whose own
+# .zjdk configuration is used), whose JDK should be installed, so 'sync' has nothing to download. An instrumented
+# image (its name ends in '-instrumented') writes one profile per step to target/pgo, where '-Ppgo' picks them up.
+
+set -euo pipefail
+
+if [ $# -eq 0 ]; then
+  set -- target/zjdk-instrumented
+fi
+
+profiles="$PWD/target/pgo"
+directory="${ZJDK_WORKLOAD_DIR:-$PWD}"
+command=("$@")
+
+if [[ "${command[0]}" == */* ]]; then
+  command[0]="$(realpath "${command[0]}")"
+fi
+
+case "${command[0]}" in
+  *-instrumented)
+    if [ ! -x "${command[0]}" ]; then
+      echo "No executable at '${command[0]}', build it with: ./mvnw -Pnative,pgo-instrument package" >&2
+      exit 1
+    fi
+    mkdir -p "$profiles"
+    ;;
+  *)
+    profiles=""
+    ;;
+esac
+
+step() {
+  local name="$1"; shift
+  local options=()
+
+  if [ -n "$profiles" ]; then
+    options=("-XX:ProfilesDumpFile=$profiles/$name.iprof")
+  fi
+
+  echo "== $name" >&2
+  "${command[@]}" ${options[@]+"${options[@]}"} "$@" >/dev/null
+}
+
+cd "$directory"
+
+step env env
+step list-available list available
+step list-installed list installed
+step sync sync
+
+if [ -n "$profiles" ]; then
+  echo "Profiles written to $profiles, build the optimized image with: ./mvnw -Pnative,pgo package" >&2
+fi
@@ -0,0 +1,10 @@
+# Sourced by the measurement scripts.
+
+# prints the current time in microseconds, date on macOS has no sub-second precision
+now_us() {
+  if [ "$(uname)" = "Darwin" ]; then
+    perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000000'
+  else
+    echo $(( $(date +%s%N) / 1000 ))
+  fi
+}
@@ -3,22 +3,34 @@ package dev.zerojdk;
 import dev.zerojdk.adapter.in.cli.*;
 
 import dev.zerojdk.adapter.in.cli.bootstrap.ZjdkBootstrapper;
+import dev.zerojdk.adapter.in.cli.console.Console;
 import dev.zerojdk.adapter.in.cli.bootstrap.ZjdkRuntime;
 import dev.zerojdk.adapter.in.cli.handler.CliExecutionExceptionHandler;
 import dev.zerojdk.adapter.in.cli.renderer.CommandGroupRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.HelpSections;
+import dev.zerojdk.adapter.in.cli.renderer.TimingRenderer;
+import dev.zerojdk.adapter.in.cli.timing.Span;
+import dev.zerojdk.adapter.in.cli.timing.TimingRecorder;
+import dev.zerojdk.adapter.in.cli.timing.TraceFileWriter;
+import dev.zerojdk.adapter.in.daemon.DaemonRequestHandler;
 import picocli.CommandLine;
 
-import java.util.LinkedHashMap;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static picocli.CommandLine.Model.UsageMessageSpec.SECTION_KEY_OPTION_LIST;
 
 @CommandLine.Command(name = "zjdk",
     footer = "%nSee 'zjdk help <command>' to read about a specific subcommand",
-    customSynopsis = "zjdk [-v | --version] [-h | --help] <command>"
+    customSynopsis = "zjdk [-v | --version] [-h | --help] [--timings] <command>"
 )
 public class Application implements Runnable {
+    private static final Set<String> CATALOG_COMMANDS = Set.of("init", "sync", "install", "list", "set", "info");
+
     @SuppressWarnings("unused")
     @CommandLine.Option(names = {"-h", "--help"}, usageHelp = true)
     private boolean helpRequested;
@@ -27,54 +39,86 @@ public class Application implements Runnable {
     @CommandLine.Option(names = {"-v", "--version"}, versionHelp = true)
     private boolean versionRequested;
 
+    // evaluated before parsing, since the bootstrap is timed as well
+    @SuppressWarnings("unused")
+    @CommandLine.Option(names = {"--timings"}, scope = CommandLine.ScopeType.INHERIT,
+        description = "Print the time spent per phase to stderr")
+    private boolean timings;
+
     @CommandLine.Spec
     private CommandLine.Model.CommandSpec spec;
 
     public static void main(String[] args) {
-        ZjdkRuntime runtime = ZjdkBootstrapper.bootstrap();
+        Console.install();
+
+        boolean timings = Arrays.asList(args).contains("--timings");
+        String traceFile = System.getenv(TraceFileWriter.TRACE_FILE_VARIABLE);
+
+        TimingRecorder recorder = new TimingRecorder(timings || traceFile != null);
+        ZjdkRuntime runtime = recorder.time("bootstrap", () -> ZjdkBootstrapper.bootstrap(recorder));
 
         // CLI setup
         CommandLine commandLine = new CommandLine(new Application())
             .addSubcommand("init", new ZjdkInit(
-                runtime.platformDetection(), runtime.jdkConfigService(), runtime.manifestSyncService(), runtime.eventPublisher()))
+                runtime.platformDetection(), runtime.jdkConfigService(), runtime.manifestSyncService(), runtime.consoleEvents(),
+                runtime.envCache()))
             .addSubcommand("sync", new ZjdkSync(
-                runtime.platformDetection(), runtime.manifestSyncService(), runtime.eventPublisher()))
+                runtime.platformDetection(), runtime.jdkConfigService(), runtime.manifestSyncService(), runtime.consoleEvents(),
+                runtime.envCache()))
+            .addSubcommand("install", new ZjdkInstall(
+                runtime.platformDetection(), runtime.catalogService(), runtime.jdkReleaseService(),
+                runtime.jdkInstallService(), runtime.consoleEvents(), runtime.envCache()))
             .addSubcommand("wrapper", new ZjdkWrapper(
                 runtime.platformDetection(), runtime.wrapperInstaller(), runtime.versionProvider()))
 
             .addSubcommand("list", new CommandLine(new ZjdkList())
                 .addSubcommand("available", new ZjdkList.Available(
-                    runtime.platformDetection(), runtime.catalogService()))
+                    runtime.platformDetection(), runtime.catalogLookup()))
                 .addSubcommand("installed", new ZjdkList.Installed(
                     runtime.platformDetection(), runtime.jdkReleaseService())))
             .addSubcommand("set", new CommandLine(new ZjdkSet())
                 .addSubcommand("version", new ZjdkSet.Version(
-                    runtime.platformDetection(), runtime.jdkConfigService(), runtime.manifestSyncService(), runtime.eventPublisher())))
+                    runtime.platformDetection(), runtime.jdkConfigService(), runtime.manifestSyncService(), runtime.consoleEvents(),
+                    runtime.envCache())))
             .addSubcommand("info", new ZjdkInfo(
-                runtime.platformDetection(), runtime.jdkConfigService(), runtime.catalogService()))
+                runtime.platformDetection(), runtime.jdkConfigService(), runtime.configFileLocator(),
+                runtime.catalogLookup()))
 
             .addSubcommand("env", new ZjdkEnv(
-                runtime.platformDetection(), runtime.jdkConfigService(), runtime.jdkReleaseService()))
+                runtime.envResolver()))
             .addSubcommand("shell", new CommandLine(new ZjdkShell())
                 .addSubcommand("install", new CommandLine(new ZjdkShell.Install())
                     .addSubcommand("zsh", new ZjdkShell.Install.Zsh(
-                        runtime.shellExtensionWriter()))
+                        runtime.shellHookWriter()))
                     .addSubcommand("bash", new ZjdkShell.Install.Bash(
-                        runtime.shellExtensionWriter()))))
+                        runtime.shellHookWriter()))
+                    .addSubcommand("fish", new ZjdkShell.Install.Fish(
+                        runtime.shellHookWriter()))
+                    .addSubcommand("pwsh", new ZjdkShell.Install.Pwsh(
+                        runtime.shellHookWriter()))
+                    .addSubcommand("nu", new ZjdkShell.Install.Nu(
+                        runtime.shellHookWriter()))))
+            .addSubcommand("daemon", new ZjdkDaemon(
+                runtime.platformDetection(), Application::daemonServices, runtime.zjdkHome()))
 
             .addSubcommand("update", new ZjdkUpdate(
-                runtime.catalogStorageService()))
+                runtime.platformDetection(), runtime.catalogStorageService(), runtime.catalogLookup(),
+                runtime.catalogAutoRefresh()))
+            .addSubcommand("dedupe", new ZjdkDedupe(
+                runtime.platformDetection(), runtime.jdkReleaseService(), runtime.zjdkHome()))
+            .addSubcommand("mirror", new CommandLine(new ZjdkMirror())
+                .addSubcommand("populate", new ZjdkMirror.Populate(
+                    runtime.platformDetection(), runtime.catalogLookup(), runtime.catalogService(),
+                    runtime.catalogStorageFrom(),
+                    URI.create(ZjdkBootstrapper.CATALOG_RELEASE_URL))))
             .addSubcommand(new CommandLine.HelpCommand())
-            .setExecutionExceptionHandler(new CliExecutionExceptionHandler());
+            .setCaseInsensitiveEnumValuesAllowed(true)
+            .setExecutionExceptionHandler(new CliExecutionExceptionHandler())
+            .setExecutionStrategy(parseResult -> recorder.time(commandName(parseResult),
+                () -> new CommandLine.RunLast().execute(parseResult)));
 
         // Help page rendering
-        Map<String, List<String>> sections = new LinkedHashMap<>();
-        sections.put("%nBootstrap%n", List.of("init", "sync", "wrapper"));
-        sections.put("%nVersion Management%n", List.of("list", "set", "info"));
-        sections.put("%nEnvironment%n", List.of("env", "shell"));
-        sections.put("%nMaintenance%n", List.of("update"));
-
-        new CommandGroupRenderer(sections).apply(commandLine);
+        new CommandGroupRenderer(HelpSections.ZJDK).apply(commandLine);
 
         // remove default help/version options
         commandLine.getHelpSectionMap().remove(SECTION_KEY_OPTION_LIST);
@@ -105,7 +149,42 @@ public class Application implements Runnable {
             return;
         }
 
-        System.exit(commandLine.execute(args));
+        int exitCode = commandLine.execute(args);
+        System.out.flush();
+
+        // Commands reading the catalog kick off a background refresh once it is older than ZJDK_CATALOG_TTL, after
+        // they are done, so the refresh never replaces the catalog they are reading
+        if (args.length >= 1 && CATALOG_COMMANDS.contains(args[0])) {
+            runtime.catalogAutoRefresh().triggerIfDue();
+        }
+
+        if (recorder.isEnabled()) {
+            String command = commandLine.getParseResult() != null
+                ? commandName(commandLine.getParseResult())
+                : "zjdk";
+            List<Span> spans = recorder.spans();
+
+            if (timings) {
+                new TimingRenderer().render(command, spans);
+            }
+            if (traceFile != null) {
+                new TraceFileWriter(Path.of(traceFile)).write(command, spans);
+            }
+        }
+
+        System.exit(exitCode);
+    }
+
+    // bootstrapped again whenever the daemon reloads, so every service reads the current state from disk
+    private static DaemonRequestHandler.Services daemonServices() {
+        ZjdkRuntime runtime = ZjdkBootstrapper.bootstrap();
+
+        return new DaemonRequestHandler.Services(runtime.envResolver(), runtime.jdkReleaseService(),
+            runtime.catalogLookup());
+    }
+
+    private static String commandName(CommandLine.ParseResult parseResult) {
+        return parseResult.asCommandLineList().getLast().getCommandSpec().qualifiedName();
     }
 
     @Override
@@ -0,0 +1,79 @@
+package dev.zerojdk.adapter.in.cli;
+
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
+import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
+import dev.zerojdk.adapter.in.daemon.DaemonRequestHandler;
+import dev.zerojdk.adapter.in.daemon.DaemonServer;
+import dev.zerojdk.adapter.in.daemon.HeapBudget;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.port.out.PlatformDetection;
+import lombok.RequiredArgsConstructor;
+import picocli.CommandLine;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+@CommandLine.Command(
+    header = "Serve environment lookups from a resident process",
+    description = """
+          %n  Starts a long-running zjdk process that answers 'env', 'info' and
+          'list installed' requests over a Unix domain socket.
+
+          The shell integration scripts installed by 'zjdk shell install' use the
+          socket when it exists and fall back to running zjdk otherwise, so changing
+          directories does not pay for starting a new process. The bash, fish and
+          nushell scripts are the exception, they always run zjdk.
+
+          Requests are served concurrently, the lookups behind them one at a time.
+          Whenever another zjdk command changed a configuration, an installation or
+          the catalog, the daemon loads them again before answering. It runs until
+          it is terminated and removes its socket on shutdown.
+
+          Since the native executable never reclaims memory, the daemon exits once
+          its heap budget is used up, and the shell integration falls back until it
+          is started again. It reports this on standard error before exiting, and
+          states its budget when it starts listening. Set ZJDK_DAEMON_HEAP_BUDGET to
+          change the budget, e.g. '512m' (default: 256m, but at most three quarters
+          of the maximum heap).
+        """,
+    descriptionHeading = "%nDescription:",
+    optionListHeading = "Options:%n",
+    synopsisHeading = "%nSynopsis:%n  "
+)
+public class ZjdkDaemon implements Runnable {
+    private final PlatformDetection platformDetection;
+    private final Supplier<DaemonRequestHandler.Services> services;
+    private final Path zjdkHome;
+
+    @CommandLine.Option(names = {"-s", "--socket"}, description = "Socket path (default: ~/.zjdk/daemon.sock)")
+    private Path socket;
+
+    @CommandLine.Mixin
+    private HelpOption helpOption;
+
+    @Override
+    public void run() {
+        Platform platform = platformDetection.detect();
+        Path path = socket != null
+            ? socket
+            : zjdkHome.resolve("daemon.sock");
+
+        // the stamp and the catalog are where the other invocations record what they changed
+        DaemonRequestHandler handler = new DaemonRequestHandler(platform, services,
+            zjdkHome.resolve("cache").resolve(EnvCache.STAMP_FILE), zjdkHome.resolve("catalog"));
+        handler.preload();
+
+        HeapBudget heapBudget = HeapBudget.fromEnvironment();
+
+        System.out.printf("Listening on %s, heap budget %d MiB%n", path, heapBudget.budget() / (1024 * 1024));
+        System.out.flush();
+
+        new DaemonServer(path, handler, heapBudget).serve();
+
+        if (heapBudget.isExhausted()) {
+            System.err.printf("Heap budget of %d MiB used up, stopping. Start 'zjdk daemon' again to resume.%n",
+                heapBudget.budget() / (1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.zerojdk.adapter.in.cli;
+
+import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
+import dev.zerojdk.adapter.out.store.ContentAddressedStore;
+import dev.zerojdk.adapter.out.store.DeduplicationResult;
+import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.service.release.JdkReleaseService;
+import lombok.RequiredArgsConstructor;
+import picocli.CommandLine;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+@CommandLine.Command(
+    header = "Share identical files between installed JDKs",
+    description = """
+          %n  Replaces files that are identical across the installed JDKs with hard
+          links to a single copy kept in the content-addressed store under
+          ~/.zjdk/store.
+
+          Files are only shared when both their content and their permissions
+          match. Installed JDKs are treated as read-only, modifying a shared file in
+          place changes it for every JDK that links to it. The files meant to be
+          edited, the trust store lib/security/cacerts and everything below conf,
+          are therefore never shared.
+
+          The store and the installed JDKs must reside on the same file system,
+          files that cannot be linked are left untouched. Copies in the store that
+          are no longer used by any installed JDK are removed.
+
+          Running the command again only links files added by newer installations.
+        """,
+    descriptionHeading = "%nDescription:",
+    optionListHeading = "Options:%n",
+    synopsisHeading = "%nSynopsis:%n  "
+)
+public class ZjdkDedupe implements Runnable {
+    private final PlatformDetection platformDetection;
+    private final Supplier<JdkReleaseService> jdkReleaseService;
+    private final Path zjdkHome;
+
+    @CommandLine.Mixin
+    private HelpOption helpOption;
+
+    @Override
+    public void run() {
+        List<Path> javaHomes = jdkReleaseService.get().findInstalledJdkReleases(platformDetection.detect()).stream()
+            .map(release -> Path.of(release.javaHome().toString()))
+            .toList();
+
+        if (javaHomes.isEmpty()) {
+            System.out.println("No installed JDKs found.");
+            return;
+        }
+
+        ContentAddressedStore store = new ContentAddressedStore(zjdkHome.resolve("store"));
+        DeduplicationResult result = store.deduplicate(javaHomes);
+        int pruned = store.prune();
+
+        System.out.printf("%d of %d files shared across %d JDKs, %.1f MB reclaimed.%n",
+            result.filesLinked(), result.filesScanned(), javaHomes.size(), result.bytesReclaimed() / (1024.0 * 1024.0));
+
+        if (pruned > 0) {
+            System.out.printf("%d unused store entries removed.%n", pruned);
+        }
+    }
+}
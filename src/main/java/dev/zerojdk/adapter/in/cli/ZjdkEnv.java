@@ -1,15 +1,15 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.env.EnvResolver;
+import dev.zerojdk.adapter.in.cli.mixin.FormatOption;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
-import dev.zerojdk.domain.model.context.LayoutContexts;
-import dev.zerojdk.domain.port.out.layout.UnmanagedDirectoryException;
-import dev.zerojdk.domain.model.Platform;
-import dev.zerojdk.domain.port.out.PlatformDetection;
-import dev.zerojdk.domain.service.config.JdkConfigService;
-import dev.zerojdk.domain.service.release.JdkReleaseService;
+import dev.zerojdk.adapter.in.cli.renderer.EnvRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.StructuredWriter;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
 
+import java.nio.file.Path;
+
 @RequiredArgsConstructor
 @CommandLine.Command(
     header = "Print environment variables for the active JDK",
@@ -24,8 +24,19 @@ import picocli.CommandLine;
           the correct JDK installation. It can be used to inspect or export environment
           settings manually or within scripts.
 
+          The resolved JAVA_HOME is cached per directory and reused for as long as
+          the governing configuration and the installed JDK are unchanged.
+
           If no configuration is found, the command fails with an appropriate error.
 
+          Use '--format' to print the resolved JAVA_HOME as json, ndjson or tsv
+          instead of shell exports.
+
+          With '--emit-cache-key', the exports are followed by a comment naming the
+          configuration file they were resolved from. The shell integration scripts
+          reuse the exports without starting zjdk while they find the same file,
+          unmodified, for the current directory.
+
           Example usage in a shell:
             eval "$(zjdk env)"
         """,
@@ -34,29 +45,41 @@ import picocli.CommandLine;
     synopsisHeading = "%nSynopsis:%n  "
 )
 public class ZjdkEnv implements Runnable {
-    private final PlatformDetection platformDetection;
-    private final JdkConfigService jdkConfigService;
-    private final JdkReleaseService jdkReleaseService;
+    private final EnvResolver envResolver;
 
     @CommandLine.Mixin
     private HelpOption helpOption;
 
+    @CommandLine.Mixin
+    private FormatOption formatOption;
+
+    @CommandLine.Option(names = {"--emit-cache-key"},
+        description = "Name the governing configuration file after the exports")
+    private boolean emitCacheKey;
+
     @Override
     public void run() {
-        Platform platform = platformDetection.detect();
-        String version = getActiveVersion();
+        Path directory = Path.of(System.getProperty("user.dir"));
+
+        envResolver.javaHome(directory)
+            .ifPresent(this::render);
 
-        jdkReleaseService.findJdkRelease(platform, version).ifPresent(release -> {
-            System.out.printf("export JAVA_HOME=\"%s\"\n", release.javaHome());
-            System.out.println("export PATH=\"$JAVA_HOME/bin:$PATH\"");
-        });
+        if (emitCacheKey && !formatOption.isStructured()) {
+            new EnvRenderer().renderCacheKey(envResolver.governingConfig(directory));
+        }
     }
 
-    private String getActiveVersion() {
-        try {
-            return jdkConfigService.getActiveVersion(LayoutContexts.current());
-        } catch (UnmanagedDirectoryException e) {
-            return jdkConfigService.getActiveVersion(LayoutContexts.global());
+    private void render(String javaHome) {
+        if (!formatOption.isStructured()) {
+            new EnvRenderer().render(javaHome);
+            return;
         }
+
+        StructuredWriter writer = StructuredWriter.stdout(formatOption.format(), "java_home");
+
+        writer.beginRecord()
+            .field("java_home", javaHome)
+            .endRecord()
+            .flush();
     }
 }
@@ -1,16 +1,21 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.env.ConfigFileLocator;
+import dev.zerojdk.adapter.in.cli.mixin.FormatOption;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
 import dev.zerojdk.adapter.in.cli.renderer.JdkVersionRenderer;
-import dev.zerojdk.domain.model.context.LayoutContexts;
-import dev.zerojdk.domain.port.out.layout.UnmanagedDirectoryException;
+import dev.zerojdk.adapter.in.cli.renderer.StructuredJdkRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.StructuredWriter;
 import dev.zerojdk.domain.model.Platform;
 import dev.zerojdk.domain.port.out.PlatformDetection;
-import dev.zerojdk.domain.service.catalog.CatalogService;
 import dev.zerojdk.domain.service.config.JdkConfigService;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
 
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
 @RequiredArgsConstructor
 @CommandLine.Command(
     header = "Print information about the currently active JDK",
@@ -28,7 +33,8 @@ import picocli.CommandLine;
           catalog, no information is shown.
         
           This command is useful for inspecting what version is currently configured
-          and verifying its catalog metadata.
+          and verifying its catalog metadata. Use '--format' to print the metadata as
+          json, ndjson or tsv.
         """,
     descriptionHeading = "%nDescription:",
     optionListHeading = "Options:%n",
@@ -36,28 +42,36 @@ import picocli.CommandLine;
 )
 public class ZjdkInfo implements Runnable {
     private final PlatformDetection platformDetection;
-    private final JdkConfigService jdkConfigService;
-    private final CatalogService catalogService;
+    private final Supplier<JdkConfigService> jdkConfigService;
+    private final ConfigFileLocator configFileLocator;
+    private final CatalogLookup catalogLookup;
 
     @CommandLine.Mixin
     private HelpOption helpOption;
 
+    @CommandLine.Mixin
+    private FormatOption formatOption;
+
     @Override
     public void run() {
         Platform platform = platformDetection.detect();
         String version = getActiveVersion();
 
-        JdkVersionRenderer jdkVersionRenderer = new JdkVersionRenderer();
+        catalogLookup.findByIdentifier(platform, version).ifPresent(release -> {
+            if (formatOption.isStructured()) {
+                StructuredWriter writer = StructuredWriter.stdout(formatOption.format(), StructuredJdkRenderer.VERSION_COLUMNS);
 
-        catalogService.findByIdentifier(platform, version)
-            .ifPresent(release -> jdkVersionRenderer.render("", release));
+                new StructuredJdkRenderer(writer).render(release);
+                writer.flush();
+            } else {
+                new JdkVersionRenderer().render("", release);
+            }
+        });
     }
 
     private String getActiveVersion() {
-        try {
-            return jdkConfigService.getActiveVersion(LayoutContexts.current());
-        } catch (UnmanagedDirectoryException e) {
-            return jdkConfigService.getActiveVersion(LayoutContexts.global());
-        }
+        Path directory = Path.of(System.getProperty("user.dir"));
+
+        return jdkConfigService.get().getActiveVersion(configFileLocator.contextOf(directory));
     }
 }
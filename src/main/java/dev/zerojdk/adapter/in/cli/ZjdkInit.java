@@ -1,21 +1,24 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
 import dev.zerojdk.adapter.in.cli.event.CompositeConsoleEventHandler;
 import dev.zerojdk.adapter.in.cli.event.JdkDownloadProgressPrinter;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
 import dev.zerojdk.domain.model.context.LayoutContexts;
 import dev.zerojdk.adapter.out.config.ConfigFileAlreadyExistsException;
-import dev.zerojdk.adapter.out.event.InMemoryDomainEventPublisher;
 import dev.zerojdk.domain.model.Platform;
 import dev.zerojdk.domain.model.context.LayoutContext;
 import dev.zerojdk.domain.model.context.LocalLayoutContext;
 import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
 import dev.zerojdk.domain.service.config.JdkConfigService;
 import dev.zerojdk.domain.service.sync.ManifestSyncService;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
 
 import java.nio.file.Path;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 @CommandLine.Command(
@@ -47,9 +50,10 @@ import java.nio.file.Path;
 )
 public class ZjdkInit implements Runnable {
     private final PlatformDetection platformDetection;
-    private final JdkConfigService jdkConfigService;
-    private final ManifestSyncService manifestSyncService;
-    private final InMemoryDomainEventPublisher eventPublisher;
+    private final Supplier<JdkConfigService> jdkConfigService;
+    private final Supplier<ManifestSyncService> manifestSyncService;
+    private final DomainEventObserver consoleEvents;
+    private final EnvCache envCache;
 
     @CommandLine.Option(names = {"--version"}, description = "Initialize with this JDK version")
     private String version;
@@ -62,8 +66,8 @@ public class ZjdkInit implements Runnable {
 
     @Override
     public void run() {
-        new CompositeConsoleEventHandler(
-            new JdkDownloadProgressPrinter()).register(eventPublisher);
+        Observer progress = new CompositeConsoleEventHandler(
+            new JdkDownloadProgressPrinter()).register(consoleEvents);
 
         Platform platform = platformDetection.detect();
 
@@ -72,7 +76,8 @@ public class ZjdkInit implements Runnable {
             : LayoutContexts.current();
 
         try {
-            jdkConfigService.createConfiguration(platform, version, context);
+            jdkConfigService.get().createConfiguration(platform, version, context);
+            envCache.invalidate();
 
             if (LayoutContexts.isGlobalContext(context)) {
                 System.out.println(
@@ -92,6 +97,10 @@ public class ZjdkInit implements Runnable {
             return;
         }
 
-        manifestSyncService.sync(platform, context);
+        try {
+            manifestSyncService.get().sync(platform, context);
+        } finally {
+            progress.close();
+        }
     }
 }
@@ -0,0 +1,161 @@
+package dev.zerojdk.adapter.in.cli;
+
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
+import dev.zerojdk.adapter.in.cli.event.CompositeConsoleEventHandler;
+import dev.zerojdk.adapter.in.cli.event.MultiDownloadProgressPrinter;
+import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
+import dev.zerojdk.adapter.in.cli.sync.ParallelJdkInstall;
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
+import dev.zerojdk.domain.service.catalog.CatalogService;
+import dev.zerojdk.domain.service.install.JdkInstallService;
+import dev.zerojdk.domain.service.release.JdkReleaseService;
+import lombok.RequiredArgsConstructor;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+@CommandLine.Command(
+    header = "Install JDK versions without configuring a project",
+    description = """
+          %n  Downloads and installs the given JDK versions for the current platform,
+          without creating or modifying any .zjdk configuration.
+
+          Versions can be passed as arguments, or read from a file with '--from',
+          one version per line. Blank lines and lines starting with '#' are ignored,
+          and '-' reads the list from standard input.
+
+          All versions are checked against the catalog before anything is
+          downloaded. Each distinct version is installed once, versions that are
+          already installed are skipped, and up to '--parallel' versions are
+          downloaded and extracted at the same time.
+
+          This command is typically used to provision build agents or container
+          images ahead of time, so later 'zjdk sync' runs find the JDKs installed.
+        """,
+    descriptionHeading = "%nDescription:",
+    optionListHeading = "Options:%n",
+    synopsisHeading = "%nSynopsis:%n  ",
+    customSynopsis = "zjdk install [-h] [-j <n>] (<version>... | --from <file>)",
+    sortOptions = false
+)
+public class ZjdkInstall implements Runnable {
+    private final PlatformDetection platformDetection;
+    private final Supplier<CatalogService> catalogService;
+    private final Supplier<JdkReleaseService> jdkReleaseService;
+    private final Supplier<JdkInstallService> jdkInstallService;
+    private final DomainEventObserver consoleEvents;
+    private final EnvCache envCache;
+
+    @CommandLine.Mixin
+    private HelpOption helpOption;
+
+    @CommandLine.Parameters(paramLabel = "<version>", arity = "0..*", description = "The JDK versions to install")
+    private List<String> versions;
+
+    @CommandLine.Option(names = {"-f", "--from"}, paramLabel = "<file>",
+        description = "Read the versions to install from a file, or '-' for standard input")
+    private Path from;
+
+    @CommandLine.Option(names = {"-j", "--parallel"}, defaultValue = "4", paramLabel = "<n>",
+        description = "Maximum number of JDKs installed concurrently (default: ${DEFAULT-VALUE})")
+    private int parallel;
+
+    @CommandLine.Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @Override
+    public void run() {
+        if (parallel < 1) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "'--parallel' must be at least 1");
+        }
+
+        Set<String> requested = requestedVersions();
+
+        if (requested.isEmpty()) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                "Specify the versions to install, or '--from' to read them from a file");
+        }
+
+        Platform platform = platformDetection.detect();
+
+        Map<String, JdkVersion> resolved = new LinkedHashMap<>();
+        List<String> unknown = new ArrayList<>();
+
+        // complete catalog entries, the index only holds what listings show and nothing to download from
+        for (String version : requested) {
+            catalogService.get().findByIdentifier(platform, version).ifPresentOrElse(
+                jdkVersion -> resolved.put(version, jdkVersion),
+                () -> unknown.add(version));
+        }
+
+        if (!unknown.isEmpty()) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                "Unknown versions: %s%nUse 'zjdk list available' to view the available versions."
+                    .formatted(String.join(", ", unknown)));
+        }
+
+        List<JdkVersion> missing = resolved.entrySet().stream()
+            .filter(entry -> jdkReleaseService.get().findJdkRelease(platform, entry.getKey()).isEmpty())
+            .map(Map.Entry::getValue)
+            .toList();
+
+        if (!missing.isEmpty()) {
+            Observer progress = new CompositeConsoleEventHandler(
+                new MultiDownloadProgressPrinter()).register(consoleEvents);
+
+            try {
+                new ParallelJdkInstall(jdkInstallService.get())
+                    .install(missing, parallel);
+            } finally {
+                progress.close();
+            }
+
+            envCache.invalidate();
+        }
+
+        System.out.printf("%d JDKs installed, %d already present.%n",
+            missing.size(), requested.size() - missing.size());
+    }
+
+    private Set<String> requestedVersions() {
+        Set<String> requested = new LinkedHashSet<>(versions != null ? versions : List.of());
+
+        if (from != null) {
+            requested.addAll(readVersions(from));
+        }
+
+        return requested;
+    }
+
+    private static List<String> readVersions(Path file) {
+        try (BufferedReader reader = file.toString().equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(file)) {
+
+            return reader.lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read versions from " + file, e);
+        }
+    }
+}
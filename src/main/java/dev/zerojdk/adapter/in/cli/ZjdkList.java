@@ -1,13 +1,16 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.mixin.FormatOption;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
 import dev.zerojdk.adapter.in.cli.renderer.JdkReleaseRenderer;
 import dev.zerojdk.adapter.in.cli.renderer.JdkVersionRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.StructuredJdkRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.StructuredWriter;
 import dev.zerojdk.domain.model.JdkVersion;
 import dev.zerojdk.domain.model.Platform;
 import dev.zerojdk.domain.model.release.JdkRelease;
 import dev.zerojdk.domain.port.out.PlatformDetection;
-import dev.zerojdk.domain.service.catalog.CatalogService;
 import dev.zerojdk.domain.service.release.JdkReleaseService;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
@@ -15,6 +18,7 @@ import picocli.CommandLine;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @CommandLine.Command(
     header = "List installed or available JDK releases",
@@ -48,6 +52,8 @@ public class ZjdkList {
 
               Only releases matching the platform zjdk is running on are included.
               Output is grouped by distribution and sorted by version.
+
+              Use '--format' to print one record per release as json, ndjson or tsv.
             """,
         descriptionHeading = "%nDescription:",
         optionListHeading = "Options:%n",
@@ -55,24 +61,33 @@ public class ZjdkList {
     )
     public static class Installed implements Runnable {
         private final PlatformDetection platformDetection;
-        private final JdkReleaseService jdkReleaseService;
+        private final Supplier<JdkReleaseService> jdkReleaseService;
 
         @CommandLine.Mixin
         private HelpOption helpOption;
 
+        @CommandLine.Mixin
+        private FormatOption formatOption;
+
         @Override
         public void run() {
             Platform platform = platformDetection.detect();
 
-            List<JdkRelease> releases = jdkReleaseService.findInstalledJdkReleases(platform);
+            List<JdkRelease> releases = jdkReleaseService.get().findInstalledJdkReleases(platform);
+
+            if (!formatOption.isStructured()) {
+                new JdkReleaseRenderer().render(releases, 0, JdkReleaseRenderer.BY_DISTRIBUTION_AND_VERSION);
+                return;
+            }
+
+            StructuredWriter writer = StructuredWriter.stdout(formatOption.format(), StructuredJdkRenderer.RELEASE_COLUMNS);
+            StructuredJdkRenderer renderer = new StructuredJdkRenderer(writer);
 
-            new JdkReleaseRenderer().render(
-                releases,
-                0,
-                Comparator
-                    .comparing((JdkRelease release) -> release.jdkVersion().getDistribution())
-                    .thenComparing((JdkRelease release) -> release.jdkVersion().getDistributionVersion())
-                );
+            writer.beginList();
+            releases.stream()
+                .sorted(JdkReleaseRenderer.BY_DISTRIBUTION_AND_VERSION)
+                .forEach(renderer::render);
+            writer.endList().flush();
         }
     }
 
@@ -87,6 +102,9 @@ public class ZjdkList {
               To filter by distribution, use the '--dist' option.
             
               Use '--all' to display all available versions for the selected distribution.
+
+              Use '--format' to print one record per catalog entry as json, ndjson or
+              tsv. Entries sharing a version are not merged in these formats.
             
               To refresh the catalog used by this command, run 'zjdk update'.
             """,
@@ -96,7 +114,7 @@ public class ZjdkList {
     )
     public static class Available implements Runnable {
         private final PlatformDetection platformDetection;
-        private final CatalogService catalogService;
+        private final CatalogLookup catalogLookup;
 
         @CommandLine.Mixin
         private HelpOption helpOption;
@@ -106,6 +124,9 @@ public class ZjdkList {
         @CommandLine.Option(names = {"-a", "--all"}, description = "Shows all available version of a distribution (requires --dist)")
         private boolean all;
 
+        @CommandLine.Mixin
+        private FormatOption formatOption;
+
         @Override
         public void run() {
             if (all && distribution == null) {
@@ -116,28 +137,58 @@ public class ZjdkList {
 
             Platform platform = platformDetection.detect();
 
+            if (formatOption.isStructured()) {
+                renderStructured(platform);
+                return;
+            }
+
             JdkVersionRenderer jdkVersionRenderer = new JdkVersionRenderer();
 
             if (distribution == null) {
-                Map<String, List<JdkVersion>> latest = catalogService.findLatest(platform);
+                Map<String, List<JdkVersion>> latest = catalogLookup.findLatest(platform);
 
                 latest.keySet().stream().sorted().forEach(dist -> {
                     System.out.println(dist);
                     jdkVersionRenderer.render(latest.get(dist), 2, groupBySupportThenSort());
                 });
             } else {
-                List<JdkVersion> versions = all
-                    ? catalogService.findAllByDistribution(platform, distribution).stream()
-                        .sorted(Comparator.comparing(JdkVersion::getDistributionVersion))
-                        .toList()
-                    : catalogService.findLatestByDistribution(platform, distribution);
+                jdkVersionRenderer.render(findByDistribution(platform), 0, distributionOrdering());
+            }
+        }
+
+        private void renderStructured(Platform platform) {
+            StructuredWriter writer = StructuredWriter.stdout(formatOption.format(), StructuredJdkRenderer.VERSION_COLUMNS);
+            StructuredJdkRenderer renderer = new StructuredJdkRenderer(writer);
 
-                Comparator<JdkVersion> ordering = all
-                    ? Comparator.comparing(JdkVersion::getDistributionVersion).reversed()
-                    : this::compareLtsFirst;
+            writer.beginList();
 
-                jdkVersionRenderer.render(versions, 0, ordering);
+            if (distribution == null) {
+                Map<String, List<JdkVersion>> latest = catalogLookup.findLatest(platform);
+
+                latest.keySet().stream().sorted().forEach(dist -> latest.get(dist).stream()
+                    .sorted(groupBySupportThenSort())
+                    .forEach(renderer::render));
+            } else {
+                findByDistribution(platform).stream()
+                    .sorted(distributionOrdering())
+                    .forEach(renderer::render);
             }
+
+            writer.endList().flush();
+        }
+
+        private List<JdkVersion> findByDistribution(Platform platform) {
+            return all
+                ? catalogLookup.findAllByDistribution(platform, distribution).stream()
+                    .sorted(Comparator.comparing(JdkVersion::getDistributionVersion))
+                    .toList()
+                : catalogLookup.findLatestByDistribution(platform, distribution);
+        }
+
+        private Comparator<JdkVersion> distributionOrdering() {
+            return all
+                ? Comparator.comparing(JdkVersion::getDistributionVersion).reversed()
+                : this::compareLtsFirst;
         }
 
         private int compareLtsFirst(JdkVersion a, JdkVersion b) {
@@ -0,0 +1,164 @@
+package dev.zerojdk.adapter.in.cli;
+
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.SimpleFileServer;
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
+import dev.zerojdk.adapter.out.mirror.Mirror;
+import dev.zerojdk.adapter.out.mirror.MirrorPopulator;
+import dev.zerojdk.adapter.out.mirror.PopulateResult;
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.service.catalog.CatalogService;
+import dev.zerojdk.domain.service.catalog.CatalogUnchangedException;
+import dev.zerojdk.domain.service.catalog.storage.CatalogStorageService;
+import lombok.RequiredArgsConstructor;
+import picocli.CommandLine;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@CommandLine.Command(
+    header = "Maintain a local mirror of the catalog and JDK archives",
+    description = """
+          %n  Manages a directory that mirrors the catalog and the JDK archives it
+          references, for machines without access to the vendor download sites.
+
+          Serve the directory with any static HTTP server and point the agents at it
+          by setting ZJDK_MIRROR to its base URL. Every download zjdk performs, the
+          catalog included, is then fetched from the mirror instead.
+        """,
+    descriptionHeading = "%nDescription:",
+    optionListHeading = "Options:%n",
+    commandListHeading = "%nCommands:%n",
+    synopsisHeading = "%nSynopsis:%n  ",
+    synopsisSubcommandLabel = "<command>"
+)
+public class ZjdkMirror {
+    @CommandLine.Mixin
+    private HelpOption helpOption;
+
+    @RequiredArgsConstructor
+    @CommandLine.Command(
+        header = "Download the catalog and JDK archives into a mirror directory",
+        description = """
+              %n  Downloads the latest catalog and the JDK archives of the selected
+              distributions for the current platform into the given directory.
+
+              By default, the latest versions of every distribution are mirrored. Use
+              '--dist' to restrict the mirror to specific distributions, and '--all' to
+              include every version instead of only the latest ones.
+
+              Archives already present in the directory are not downloaded again, so
+              running the command periodically only fetches new releases. Up to
+              '--parallel' archives are downloaded at the same time.
+            """,
+        descriptionHeading = "%nDescription:",
+        optionListHeading = "Options:%n",
+        synopsisHeading = "%nSynopsis:%n  ",
+        sortOptions = false
+    )
+    public static class Populate implements Runnable {
+        private final PlatformDetection platformDetection;
+        private final CatalogLookup catalogLookup;
+        private final Supplier<CatalogService> catalogService;
+        private final Function<Mirror, CatalogStorageService> catalogStorageFrom;
+        private final URI catalogRelease;
+
+        @CommandLine.Mixin
+        private HelpOption helpOption;
+
+        @CommandLine.Parameters(index = "0", paramLabel = "<dir>", description = "The mirror directory")
+        private Path directory;
+
+        @CommandLine.Option(names = {"-d", "--dist"}, split = ",", paramLabel = "<distribution>",
+            description = "Only mirror the given distributions")
+        private List<String> distributions;
+
+        @CommandLine.Option(names = {"-a", "--all"}, description = "Mirror every version instead of the latest ones")
+        private boolean all;
+
+        @CommandLine.Option(names = {"-j", "--parallel"}, defaultValue = "4", paramLabel = "<n>",
+            description = "Maximum number of concurrent downloads (default: ${DEFAULT-VALUE})")
+        private int parallel;
+
+        @CommandLine.Spec
+        private CommandLine.Model.CommandSpec spec;
+
+        @Override
+        public void run() {
+            if (parallel < 1) {
+                throw new CommandLine.ParameterException(spec.commandLine(), "'--parallel' must be at least 1");
+            }
+
+            Platform platform = platformDetection.detect();
+            Path root = directory.toAbsolutePath().normalize();
+            MirrorPopulator populator = new MirrorPopulator(root);
+
+            PopulateResult catalog = populator.populateRelease(catalogRelease, parallel);
+            updateCatalogFrom(root, platform);
+
+            // the location the download service requests, a redirect to the archive that is stored under its own path
+            List<URI> archives = selectVersions(platform).stream()
+                .map(JdkVersion::getIndirectDownloadUri)
+                .distinct()
+                .map(URI::create)
+                .toList();
+            PopulateResult result = populator.populate(archives, parallel);
+
+            System.out.printf("%d JDK archives mirrored, %d downloaded (%.1f MB).%n",
+                result.filesRequested(), result.filesDownloaded(), result.bytesDownloaded() / (1024.0 * 1024.0));
+            System.out.printf("Catalog mirrored, %d of %d files downloaded.%n",
+                catalog.filesDownloaded(), catalog.filesRequested());
+        }
+
+        // serves the directory on loopback for the duration of the update, so the catalog is read exactly the way
+        // agents read it from the mirror
+        private void updateCatalogFrom(Path root, Platform platform) {
+            HttpServer server = SimpleFileServer.createFileServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), root, SimpleFileServer.OutputLevel.NONE);
+            server.start();
+
+            try {
+                InetSocketAddress address = server.getAddress();
+                URI base = new URI("http", null, address.getHostString(), address.getPort(), "/", null, null);
+
+                catalogStorageFrom.apply(new Mirror(base)).updateCatalogIfNewer();
+            } catch (CatalogUnchangedException e) {
+                // the local catalog already is the mirrored one
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                server.stop(0);
+            }
+
+            try {
+                catalogLookup.rebuild(platform);
+            } catch (Exception e) {
+                System.out.println("Failed to index catalog: " + e.getMessage());
+            }
+        }
+
+        // complete catalog entries, the index only holds what listings show and nothing to download from
+        private List<JdkVersion> selectVersions(Platform platform) {
+            CatalogService catalog = catalogService.get();
+            Collection<String> selected = distributions != null
+                ? distributions
+                : catalog.findLatest(platform).keySet();
+
+            return selected.stream()
+                .flatMap(distribution -> all
+                    ? catalog.findAllByDistribution(platform, distribution).stream()
+                    : catalog.findLatestByDistribution(platform, distribution).stream())
+                .toList();
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
 import dev.zerojdk.adapter.in.cli.event.CompositeConsoleEventHandler;
 import dev.zerojdk.adapter.in.cli.event.JdkDownloadProgressPrinter;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
 import dev.zerojdk.domain.model.context.LayoutContexts;
-import dev.zerojdk.adapter.out.event.InMemoryDomainEventPublisher;
 import dev.zerojdk.domain.model.Platform;
 import dev.zerojdk.domain.model.context.LayoutContext;
 import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
 import dev.zerojdk.domain.service.config.JdkConfigService;
 import dev.zerojdk.domain.service.sync.ManifestSyncService;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
 
+import java.util.function.Supplier;
+
 @CommandLine.Command(
     header = "Update JDK-related settings",
     description = """
@@ -57,9 +61,10 @@ public class ZjdkSet {
     )
     public static class Version implements Runnable {
         private final PlatformDetection platformDetection;
-        private final JdkConfigService jdkConfigService;
-        private final ManifestSyncService manifestSyncService;
-        private final InMemoryDomainEventPublisher eventPublisher;
+        private final Supplier<JdkConfigService> jdkConfigService;
+        private final Supplier<ManifestSyncService> manifestSyncService;
+        private final DomainEventObserver consoleEvents;
+        private final EnvCache envCache;
 
         @CommandLine.Spec
         private CommandLine.Model.CommandSpec spec;
@@ -79,32 +84,37 @@ public class ZjdkSet {
                 throw new CommandLine.ParameterException(spec.commandLine(), "Missing version");
             }
 
-            new CompositeConsoleEventHandler(
-                new JdkDownloadProgressPrinter()).register(eventPublisher);
-
             Platform platform = platformDetection.detect();
 
             LayoutContext context = global
                 ? LayoutContexts.global()
                 : LayoutContexts.current();
 
-            jdkConfigService.updateConfiguration(platform, version, context);
+            Observer progress = new CompositeConsoleEventHandler(
+                new JdkDownloadProgressPrinter()).register(consoleEvents);
 
-            if (LayoutContexts.isGlobalContext(context)) {
-                System.out.printf(
-                    """
-                    Global version set to '%s'
-    
-                    This acts as a global config across all directories unless overridden locally.
-                    Use --global to reflect this intention explicitly.
-                    %n""", version);
-            } else {
-                System.out.printf("""
-                    Local version set to '%s'
-                    %n""", version);
-            }
+            try {
+                jdkConfigService.get().updateConfiguration(platform, version, context);
+                envCache.invalidate();
 
-            manifestSyncService.sync(platform, context);
+                if (LayoutContexts.isGlobalContext(context)) {
+                    System.out.printf(
+                        """
+                        Global version set to '%s'
+        
+                        This acts as a global config across all directories unless overridden locally.
+                        Use --global to reflect this intention explicitly.
+                        %n""", version);
+                } else {
+                    System.out.printf("""
+                        Local version set to '%s'
+                        %n""", version);
+                }
+
+                manifestSyncService.get().sync(platform, context);
+            } finally {
+                progress.close();
+            }
         }
     }
 }
@@ -1,9 +1,12 @@
 package dev.zerojdk.adapter.in.cli;
 
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
-import dev.zerojdk.adapter.out.shell.scripts.BashScript;
-import dev.zerojdk.adapter.out.shell.scripts.ZshScript;
-import dev.zerojdk.domain.service.shell.ShellExtensionWriter;
+import dev.zerojdk.adapter.out.shell.hook.BashHook;
+import dev.zerojdk.adapter.out.shell.hook.FishHook;
+import dev.zerojdk.adapter.out.shell.hook.NuHook;
+import dev.zerojdk.adapter.out.shell.hook.PwshHook;
+import dev.zerojdk.adapter.out.shell.hook.ShellHookWriter;
+import dev.zerojdk.adapter.out.shell.hook.ZshHook;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
 
@@ -18,7 +21,8 @@ import java.nio.file.Path;
           JAVA_HOME are automatically configured when entering a Zero-JDK managed
           directory.
         
-          Use the 'install' subcommand to enable integration for Bash or Zsh shells.
+          Use the 'install' subcommand to enable integration for Bash, Zsh, fish,
+          PowerShell or nushell.
         """,
     descriptionHeading = "%nDescription:",
     optionListHeading = "Options:%n",
@@ -59,21 +63,26 @@ public class ZjdkShell {
                   ~/.bashrc file to activate the integration.
                 
                   This enables automatic detection of Zero-JDK configurations when navigating
-                  between directories.
+                  between directories. Unlike zsh and PowerShell, bash cannot query a running
+                  'zjdk daemon' without starting a process, so the script always runs zjdk.
+
+                  The script remembers which configuration it last resolved and only asks
+                  zjdk again when a different or modified configuration governs the current
+                  directory, or installed JDKs changed.
                 """,
             descriptionHeading = "%nDescription:",
             optionListHeading = "Options:%n",
             synopsisHeading = "%nSynopsis:%n  "
         )
         public static class Bash implements Runnable {
-            private final ShellExtensionWriter shellExtensionWriter;
+            private final ShellHookWriter shellHookWriter;
 
             @CommandLine.Mixin
             private HelpOption helpOption;
 
             @Override
             public void run() {
-                Path path = shellExtensionWriter.write(new BashScript());
+                Path path = shellHookWriter.write(new BashHook());
 
                 System.out.printf("""
                     Add the following line to your ~/.bashrc file:
@@ -94,21 +103,27 @@ public class ZjdkShell {
                   ~/.zshrc file to activate the integration.
                 
                   This enables automatic detection of Zero-JDK configurations when navigating
-                  between directories.
+                  between directories. Like bash, nushell cannot query a running 'zjdk daemon'
+                  without starting a process, so the script always runs zjdk.
+
+                  The script remembers which configuration it last resolved and only asks
+                  zjdk again when a different or modified configuration governs the current
+                  directory, or installed JDKs changed. If zsh is available, the script is
+                  also precompiled to a .zwc file next to it.
                 """,
             descriptionHeading = "%nDescription:",
             optionListHeading = "Options:%n",
             synopsisHeading = "%nSynopsis:%n  "
         )
         public static class Zsh implements Runnable {
-            private final ShellExtensionWriter shellExtensionWriter;
+            private final ShellHookWriter shellHookWriter;
 
             @CommandLine.Mixin
             private HelpOption helpOption;
 
             @Override
             public void run() {
-                Path path = shellExtensionWriter.write(new ZshScript());
+                Path path = shellHookWriter.write(new ZshHook());
 
                 System.out.printf("""
                     Add the following line to your ~/.zshrc file:
@@ -118,17 +133,142 @@ public class ZjdkShell {
                     """, scriptLine(path));
             }
         }
-    }
 
-    private static String scriptLine(Path scriptPath) {
-        Path home = Path.of(System.getProperty("user.home"));
+        @RequiredArgsConstructor
+        @CommandLine.Command(
+            header = "Install fish shell integration",
+            description = """
+                  %n  Installs the zjdk shell integration script for fish.
+
+                  After installation, a line is printed that should be added to the user's
+                  ~/.config/fish/config.fish file to activate the integration.
+
+                  This enables automatic detection of Zero-JDK configurations when navigating
+                  between directories. Like bash, fish cannot query a running 'zjdk daemon'
+                  without starting a process, so the script always runs zjdk.
+
+                  The script remembers which configuration it last resolved and only asks
+                  zjdk again when a different or modified configuration governs the current
+                  directory, or installed JDKs changed. Requires fish 3.5 or later.
+                """,
+            descriptionHeading = "%nDescription:",
+            optionListHeading = "Options:%n",
+            synopsisHeading = "%nSynopsis:%n  "
+        )
+        public static class Fish implements Runnable {
+            private final ShellHookWriter shellHookWriter;
+
+            @CommandLine.Mixin
+            private HelpOption helpOption;
+
+            @Override
+            public void run() {
+                Path path = homeRelative(shellHookWriter.write(new FishHook()));
+
+                System.out.printf("""
+                    Add the following line to your ~/.config/fish/config.fish file:
+                        test -f "$HOME/%s"; and source "$HOME/%s"
 
-        if (scriptPath.startsWith(home)) {
-            scriptPath = home.relativize(scriptPath);
+                    Restart your terminal or execute the above for the settings to take effect.
+                    """, path, path);
+            }
         }
 
+        @RequiredArgsConstructor
+        @CommandLine.Command(
+            header = "Install PowerShell integration",
+            description = """
+                  %n  Installs the zjdk shell integration script for PowerShell 7 (pwsh).
+
+                  After installation, a line is printed that should be added to the user's
+                  PowerShell profile, the file named by $PROFILE, to activate the
+                  integration.
+
+                  This enables automatic detection of Zero-JDK configurations when navigating
+                  between directories. If a 'zjdk daemon' is running, the script queries it
+                  through its socket from within PowerShell instead of starting zjdk.
+
+                  The script remembers which configuration it last resolved and only asks
+                  zjdk again when a different or modified configuration governs the current
+                  directory, or installed JDKs changed.
+                """,
+            descriptionHeading = "%nDescription:",
+            optionListHeading = "Options:%n",
+            synopsisHeading = "%nSynopsis:%n  "
+        )
+        public static class Pwsh implements Runnable {
+            private final ShellHookWriter shellHookWriter;
+
+            @CommandLine.Mixin
+            private HelpOption helpOption;
+
+            @Override
+            public void run() {
+                Path path = homeRelative(shellHookWriter.write(new PwshHook()));
+
+                System.out.printf("""
+                    Add the following line to your PowerShell profile ($PROFILE):
+                        if (Test-Path "$HOME/%s") { . "$HOME/%s" }
+
+                    Restart your terminal or execute the above for the settings to take effect.
+                    """, path, path);
+            }
+        }
+
+        @RequiredArgsConstructor
+        @CommandLine.Command(
+            header = "Install nushell integration",
+            description = """
+                  %n  Installs the zjdk shell integration script for nushell.
+
+                  After installation, a line is printed that should be added to the user's
+                  config.nu file, see 'config nu --help', to activate the integration.
+
+                  This enables automatic detection of Zero-JDK configurations when navigating
+                  between directories. If a 'zjdk daemon' is running, the script queries it
+                  through its socket instead of starting zjdk.
+
+                  The script remembers which configuration it last resolved and only asks
+                  zjdk again when a different or modified configuration governs the current
+                  directory, or installed JDKs changed.
+                """,
+            descriptionHeading = "%nDescription:",
+            optionListHeading = "Options:%n",
+            synopsisHeading = "%nSynopsis:%n  "
+        )
+        public static class Nu implements Runnable {
+            private final ShellHookWriter shellHookWriter;
+
+            @CommandLine.Mixin
+            private HelpOption helpOption;
+
+            @Override
+            public void run() {
+                Path path = homeRelative(shellHookWriter.write(new NuHook()));
+
+                System.out.printf("""
+                    Add the following line to your config.nu file:
+                        source ~/%s
+
+                    Restart your terminal or execute the above for the settings to take effect.
+                    """, path);
+            }
+        }
+    }
+
+    private static String scriptLine(Path scriptPath) {
+        Path path = homeRelative(scriptPath);
+
         return """
             [ -f "$HOME/%s" ] && source "$HOME/%s"
-            """.formatted(scriptPath, scriptPath);
+            """.formatted(path, path);
+    }
+
+    private static Path homeRelative(Path scriptPath) {
+        Path home = Path.of(System.getProperty("user.home"));
+
+        return scriptPath.startsWith(home)
+            ? home.relativize(scriptPath)
+            : scriptPath;
     }
 }
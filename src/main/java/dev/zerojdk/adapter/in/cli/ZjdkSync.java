@@ -1,17 +1,28 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
 import dev.zerojdk.adapter.in.cli.event.CompositeConsoleEventHandler;
 import dev.zerojdk.adapter.in.cli.event.JdkDownloadProgressPrinter;
+import dev.zerojdk.adapter.in.cli.event.MultiDownloadProgressPrinter;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
+import dev.zerojdk.adapter.in.cli.sync.ManifestScanner;
+import dev.zerojdk.adapter.in.cli.sync.ParallelManifestSync;
 import dev.zerojdk.domain.model.context.LayoutContexts;
-import dev.zerojdk.adapter.out.event.InMemoryDomainEventPublisher;
 import dev.zerojdk.domain.model.Platform;
 import dev.zerojdk.domain.model.context.LayoutContext;
 import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
+import dev.zerojdk.domain.service.config.JdkConfigService;
 import dev.zerojdk.domain.service.sync.ManifestSyncService;
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 @RequiredArgsConstructor
 @CommandLine.Command(
     header = "Download and prepare the JDK defined in the configuration",
@@ -29,15 +40,23 @@ import picocli.CommandLine;
           This command is typically used after cloning a project that includes a
           Zero-JDK configuration, to ensure the required JDK version is available
           on the system.
+        
+          Use '--all' to synchronize every configuration below the current directory,
+          or '--dirs' to synchronize every configuration below the given directories.
+          Each distinct JDK version is then installed once, and up to '--parallel'
+          versions are downloaded and extracted at the same time.
         """,
     descriptionHeading = "%nDescription:",
     optionListHeading = "Options:%n",
-    synopsisHeading = "%nSynopsis:%n  "
+    synopsisHeading = "%nSynopsis:%n  ",
+    sortOptions = false
 )
 public class ZjdkSync implements Runnable {
     private final PlatformDetection platformDetection;
-    private final ManifestSyncService manifestSyncService;
-    private final InMemoryDomainEventPublisher eventPublisher;
+    private final Supplier<JdkConfigService> jdkConfigService;
+    private final Supplier<ManifestSyncService> manifestSyncService;
+    private final DomainEventObserver consoleEvents;
+    private final EnvCache envCache;
 
     @CommandLine.Mixin
     private HelpOption helpOption;
@@ -45,10 +64,29 @@ public class ZjdkSync implements Runnable {
     @CommandLine.Option(names = {"-g", "--global"}, description = "Sync globally")
     private boolean global;
 
+    @CommandLine.Option(names = {"-a", "--all"}, description = "Sync every configuration below the current directory")
+    private boolean all;
+
+    @CommandLine.Option(names = {"--dirs"}, split = ",", paramLabel = "<dir>",
+        description = "Sync every configuration below the given directories")
+    private List<Path> dirs;
+
+    @CommandLine.Option(names = {"-j", "--parallel"}, defaultValue = "4", paramLabel = "<n>",
+        description = "Maximum number of JDKs installed concurrently with --all or --dirs (default: ${DEFAULT-VALUE})")
+    private int parallel;
+
+    @CommandLine.Spec
+    private CommandLine.Model.CommandSpec spec;
+
     @Override
     public void run() {
-        new CompositeConsoleEventHandler(
-            new JdkDownloadProgressPrinter()).register(eventPublisher);
+        if (all || dirs != null) {
+            syncTrees();
+            return;
+        }
+
+        Observer progress = new CompositeConsoleEventHandler(
+            new JdkDownloadProgressPrinter()).register(consoleEvents);
 
         Platform platform = platformDetection.detect();
 
@@ -56,7 +94,12 @@ public class ZjdkSync implements Runnable {
             ? LayoutContexts.global()
             : LayoutContexts.current();
 
-        manifestSyncService.sync(platform, context);
+        try {
+            manifestSyncService.get().sync(platform, context);
+        } finally {
+            progress.close();
+        }
+        envCache.invalidate();
 
         if (LayoutContexts.isGlobalContext(context)) {
             System.out.println(
@@ -70,4 +113,44 @@ public class ZjdkSync implements Runnable {
             System.out.println("Local configuration synchronized.");
         }
     }
+
+    private void syncTrees() {
+        if (global) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                "'--global' cannot be combined with '--all' or '--dirs'");
+        }
+        if (parallel < 1) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "'--parallel' must be at least 1");
+        }
+
+        List<Path> roots = dirs != null
+            ? dirs
+            : List.of(Path.of(System.getProperty("user.dir")));
+
+        ManifestScanner scanner = new ManifestScanner();
+        List<Path> projects = roots.stream()
+            .map(root -> root.toAbsolutePath().normalize())
+            .flatMap(root -> scanner.scan(root).stream())
+            .distinct()
+            .toList();
+
+        if (projects.isEmpty()) {
+            System.out.println("No configurations found.");
+            return;
+        }
+
+        Observer progress = new CompositeConsoleEventHandler(
+            new MultiDownloadProgressPrinter()).register(consoleEvents);
+
+        Map<String, List<Path>> synced;
+        try {
+            synced = new ParallelManifestSync(jdkConfigService.get(), manifestSyncService.get())
+                .sync(platformDetection.detect(), projects, parallel);
+        } finally {
+            progress.close();
+        }
+        envCache.invalidate();
+
+        System.out.printf("%d configurations synchronized (%d distinct JDKs).%n", projects.size(), synced.size());
+    }
 }
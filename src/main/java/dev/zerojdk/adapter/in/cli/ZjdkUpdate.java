@@ -1,11 +1,16 @@
 package dev.zerojdk.adapter.in.cli;
 
+import dev.zerojdk.adapter.in.cli.catalog.CatalogAutoRefresh;
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
 import dev.zerojdk.adapter.in.cli.mixin.HelpOption;
+import dev.zerojdk.domain.port.out.PlatformDetection;
 import dev.zerojdk.domain.service.catalog.storage.CatalogStorageService;
 import dev.zerojdk.domain.service.catalog.CatalogUnchangedException;
 import picocli.CommandLine;
 import lombok.RequiredArgsConstructor;
 
+import java.util.function.Supplier;
+
 @CommandLine.Command(
     header = "Download the latest catalog of available JDK releases",
     description = """
@@ -17,6 +22,14 @@ import lombok.RequiredArgsConstructor;
           'init', 'set version', 'list available', and 'sync'.
         
           If the catalog is already up to date, no changes are made.
+
+          The catalog entries for the current platform are additionally written to
+          a compact index, which lets the catalog queries skip parsing the full
+          catalog.
+
+          Set ZJDK_CATALOG_TTL, e.g. to '12h' or '3d', to have commands reading the
+          catalog refresh it in the background once it is older than that. This is
+          off by default.
         """,
     descriptionHeading = "%nDescription:",
     optionListHeading = "Options:%n",
@@ -24,7 +37,10 @@ import lombok.RequiredArgsConstructor;
 )
 @RequiredArgsConstructor
 public class ZjdkUpdate implements Runnable {
-    private final CatalogStorageService catalogStorageService;
+    private final PlatformDetection platformDetection;
+    private final Supplier<CatalogStorageService> catalogStorageService;
+    private final CatalogLookup catalogLookup;
+    private final CatalogAutoRefresh catalogAutoRefresh;
 
     @CommandLine.Mixin
     private HelpOption helpOption;
@@ -32,12 +48,21 @@ public class ZjdkUpdate implements Runnable {
     @Override
     public void run() {
         try {
-            catalogStorageService.updateCatalogIfNewer();
+            catalogStorageService.get().updateCatalogIfNewer();
             System.out.println("Catalog updated.");
         } catch (CatalogUnchangedException e) {
             System.out.println("Catalog is already up-to-date.");
         } catch (Exception e) {
             System.out.println("Failed to update catalog: " + e.getMessage());
+            return;
+        }
+
+        catalogAutoRefresh.markRefreshed();
+
+        try {
+            catalogLookup.rebuild(platformDetection.detect());
+        } catch (Exception e) {
+            System.out.println("Failed to index catalog: " + e.getMessage());
         }
     }
 }
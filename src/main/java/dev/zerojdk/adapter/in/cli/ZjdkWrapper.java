@@ -11,6 +11,7 @@ import org.graalvm.nativeimage.ProcessProperties;
 import picocli.CommandLine;
 
 import java.nio.file.Path;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 @CommandLine.Command(
@@ -31,7 +32,7 @@ import java.nio.file.Path;
 )
 public class ZjdkWrapper implements Runnable {
     private final PlatformDetection platformDetection;
-    private final WrapperInstaller wrapperInstaller;
+    private final Supplier<WrapperInstaller> wrapperInstaller;
     private final VersionProvider versionProvider;
 
     @CommandLine.Mixin
@@ -44,7 +45,7 @@ public class ZjdkWrapper implements Runnable {
             throw new RuntimeException("Runtime error. Not using Graal?");
          }
 
-        wrapperInstaller.install(
+        wrapperInstaller.get().install(
             platformDetection.detect(),
             versionProvider.getVersion(),
             Path.of(ProcessProperties.getExecutableName()),
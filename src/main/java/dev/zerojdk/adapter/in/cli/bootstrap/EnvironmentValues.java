@@ -0,0 +1,102 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Parses the durations and sizes zjdk reads from environment variables, so every variable accepts the same format.
+ * <p>
+ * A duration is a whole number of seconds, or a number followed by {@code s}, {@code m}, {@code h} or {@code d}. A
+ * size is a whole number of bytes, or a number followed by {@code k}, {@code m} or {@code g} like {@code -Xmx}. Both
+ * are case-insensitive and must not be negative.
+ * <p>
+ * An unset or blank variable yields the default. An invalid value yields the default as well, with a warning on
+ * stderr naming the variable, so a typo does not go unnoticed.
+ */
+public final class EnvironmentValues {
+    private EnvironmentValues() {
+    }
+
+    public static Duration duration(String variable, String value, Duration defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        String duration = value.trim().toLowerCase(Locale.ROOT);
+
+        try {
+            char unit = duration.charAt(duration.length() - 1);
+
+            if (Character.isDigit(unit)) {
+                return Duration.ofSeconds(amount(duration));
+            }
+
+            long amount = amount(duration.substring(0, duration.length() - 1));
+
+            Duration parsed = switch (unit) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                case 'd' -> Duration.ofDays(amount);
+                default -> null;
+            };
+
+            if (parsed != null) {
+                return parsed;
+            }
+        } catch (NumberFormatException | ArithmeticException e) {
+            // reported below
+        }
+
+        warn(variable, value, "a duration such as 30s, 5m, 12h or 1d");
+        return defaultValue;
+    }
+
+    public static long size(String variable, String value, long defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        String size = value.trim().toLowerCase(Locale.ROOT);
+
+        try {
+            char unit = size.charAt(size.length() - 1);
+
+            if (Character.isDigit(unit)) {
+                return amount(size);
+            }
+
+            long amount = amount(size.substring(0, size.length() - 1));
+
+            long multiplier = switch (unit) {
+                case 'k' -> 1024L;
+                case 'm' -> 1024L * 1024;
+                case 'g' -> 1024L * 1024 * 1024;
+                default -> 0;
+            };
+
+            if (multiplier > 0) {
+                return Math.multiplyExact(amount, multiplier);
+            }
+        } catch (NumberFormatException | ArithmeticException e) {
+            // reported below
+        }
+
+        warn(variable, value, "a size such as 512k, 64m or 1g");
+        return defaultValue;
+    }
+
+    private static long amount(String number) {
+        long amount = Long.parseLong(number);
+
+        if (amount < 0) {
+            throw new NumberFormatException("Negative: " + number);
+        }
+
+        return amount;
+    }
+
+    private static void warn(String variable, String value, String expected) {
+        System.err.printf("Ignoring %s='%s', expected %s%n", variable, value, expected);
+    }
+}
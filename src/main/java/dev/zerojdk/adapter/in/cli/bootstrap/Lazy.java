@@ -0,0 +1,58 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Memoizing supplier used to defer the construction of services until a command actually needs them.
+ */
+public final class Lazy<T> implements Supplier<T> {
+    private final Supplier<T> factory;
+    private volatile T value;
+
+    private Lazy(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    public static <T> Lazy<T> of(Supplier<T> factory) {
+        return new Lazy<>(factory);
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+
+                if (result == null) {
+                    result = factory.get();
+                    value = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    public boolean isInitialized() {
+        return value != null;
+    }
+
+    /**
+     * Exposes this supplier as an instance of the given port interface. The underlying service is only
+     * constructed on the first method invocation, which allows handing a port to a consumer that may never use it.
+     */
+    @SuppressWarnings("unchecked")
+    public T asProxy(Class<T> port) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[] { port }, (proxy, method, args) -> {
+            try {
+                return method.invoke(get(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Proxy and keep-alive settings for the {@code java.net.http} clients created by the download adapters.
+ * <p>
+ * The adapters build their clients with the JDK defaults, which read the proxies and the connection pool from system
+ * properties. The settings are therefore translated into those properties once, before the first client exists.
+ * Properties passed explicitly with {@code -D} take precedence over the environment.
+ * <p>
+ * Connect and read timeouts are not covered: {@code java.net.http} only takes them from the client builder and the
+ * request, both of which are created inside core's download service.
+ * <p>
+ * Neither are proxy credentials. {@code java.net.http} only authenticates with the authenticator set on the client
+ * builder, not the default one, so a proxy asking for credentials rejects the requests. Credentials in a proxy URL are
+ * ignored, only its host and port are used.
+ * <p>
+ * Recognized variables, the {@code ZJDK_} prefixed one winning over the conventional one:
+ * <ul>
+ *   <li>{@code ZJDK_HTTPS_PROXY}, {@code HTTPS_PROXY}, {@code https_proxy}</li>
+ *   <li>{@code ZJDK_HTTP_PROXY}, {@code HTTP_PROXY}, {@code http_proxy}</li>
+ *   <li>{@code ZJDK_NO_PROXY}, {@code NO_PROXY}, {@code no_proxy}</li>
+ *   <li>{@code ZJDK_KEEPALIVE}, a duration such as {@code 30s} or {@code 5m}, see {@link EnvironmentValues}</li>
+ * </ul>
+ */
+public record NetworkSettings(URI httpsProxy, URI httpProxy, String noProxy, Duration keepAlive) {
+    static final String KEEPALIVE_VARIABLE = "ZJDK_KEEPALIVE";
+    static final Duration DEFAULT_KEEPALIVE = Duration.ofMinutes(5);
+
+    public static NetworkSettings fromEnvironment() {
+        return from(System.getenv());
+    }
+
+    static NetworkSettings from(Map<String, String> env) {
+        return new NetworkSettings(
+            proxy(first(env, "ZJDK_HTTPS_PROXY", "HTTPS_PROXY", "https_proxy")),
+            proxy(first(env, "ZJDK_HTTP_PROXY", "HTTP_PROXY", "http_proxy")),
+            first(env, "ZJDK_NO_PROXY", "NO_PROXY", "no_proxy"),
+            EnvironmentValues.duration(KEEPALIVE_VARIABLE, env.get(KEEPALIVE_VARIABLE), DEFAULT_KEEPALIVE));
+    }
+
+    /**
+     * The system properties these settings translate to.
+     */
+    Map<String, String> systemProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+
+        if (httpsProxy != null) {
+            properties.put("https.proxyHost", httpsProxy.getHost());
+            properties.put("https.proxyPort", String.valueOf(port(httpsProxy)));
+        }
+        if (httpProxy != null) {
+            properties.put("http.proxyHost", httpProxy.getHost());
+            properties.put("http.proxyPort", String.valueOf(port(httpProxy)));
+        }
+        if (noProxy != null && !noProxy.isBlank()) {
+            properties.put("http.nonProxyHosts", nonProxyHosts(noProxy));
+        }
+
+        // Keep idle connections around long enough to be reused by consecutive requests to the same host
+        properties.put("jdk.httpclient.keepalive.timeout", String.valueOf(keepAlive.toSeconds()));
+        properties.put("jdk.httpclient.keepalive.timeout.h2", String.valueOf(keepAlive.toSeconds()));
+
+        return properties;
+    }
+
+    /**
+     * Applies the settings to the running process. Must be called before the first HTTP client is created, since the
+     * JDK reads most of these properties only once.
+     */
+    public void apply() {
+        systemProperties().forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        });
+    }
+
+    private static String first(Map<String, String> env, String... names) {
+        return Arrays.stream(names)
+            .map(env::get)
+            .filter(value -> value != null && !value.isBlank())
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static URI proxy(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            URI uri = URI.create(value.contains("://") ? value : "http://" + value);
+
+            return uri.getHost() != null
+                ? uri
+                : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int port(URI proxy) {
+        if (proxy.getPort() != -1) {
+            return proxy.getPort();
+        }
+
+        return "https".equalsIgnoreCase(proxy.getScheme())
+            ? 443
+            : 80;
+    }
+
+    // NO_PROXY is comma separated and uses '.example.com' for subdomains, the JDK expects '|' and '*.example.com'
+    private static String nonProxyHosts(String noProxy) {
+        return Arrays.stream(noProxy.split(","))
+            .map(String::trim)
+            .filter(host -> !host.isEmpty())
+            .flatMap(host -> host.startsWith(".")
+                ? Stream.of(host.substring(1), "*" + host)
+                : Stream.of(host))
+            .distinct()
+            .collect(Collectors.joining("|"));
+    }
+
+    @Override
+    public String toString() {
+        // keeps proxy credentials out of logs
+        return "NetworkSettings[httpsProxy=%s, httpProxy=%s, noProxy=%s, keepAlive=%s]"
+            .formatted(redacted(httpsProxy), redacted(httpProxy), noProxy, keepAlive);
+    }
+
+    private static String redacted(URI proxy) {
+        return proxy != null
+            ? proxy.getHost() + ":" + port(proxy)
+            : null;
+    }
+}
@@ -0,0 +1,18 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import dev.zerojdk.adapter.out.SystemPropertyBasedPlatformDetection;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.port.out.PlatformDetection;
+
+/**
+ * Detects the platform once per process. The native image initializes this class at build time, so the detected
+ * platform is part of the image heap: a native executable only ever runs on the platform it was built for.
+ */
+public class PrecomputedPlatformDetection implements PlatformDetection {
+    private static final Platform PLATFORM = new SystemPropertyBasedPlatformDetection().detect();
+
+    @Override
+    public Platform detect() {
+        return PLATFORM;
+    }
+}
@@ -1,6 +1,12 @@
 package dev.zerojdk.adapter.in.cli.bootstrap;
 
-import dev.zerojdk.adapter.out.SystemPropertyBasedPlatformDetection;
+import dev.zerojdk.adapter.in.cli.catalog.CatalogAutoRefresh;
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.env.ConfigFileLocator;
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
+import dev.zerojdk.adapter.in.cli.env.EnvResolver;
+import dev.zerojdk.adapter.in.cli.event.AsyncDomainEventObserver;
+import dev.zerojdk.adapter.in.cli.timing.TimingRecorder;
 import dev.zerojdk.adapter.out.catalog.JsonCatalogRepository;
 import dev.zerojdk.adapter.out.catalog.provider.CatalogStorageProvider;
 import dev.zerojdk.adapter.out.catalog.provider.JsonCatalogStorageProvider;
@@ -10,19 +16,23 @@ import dev.zerojdk.adapter.out.download.HttpDownloadService;
 import dev.zerojdk.adapter.out.event.InMemoryDomainEventPublisher;
 import dev.zerojdk.adapter.out.github.client.GitHubReleaseClient;
 import dev.zerojdk.adapter.out.layout.*;
+import dev.zerojdk.adapter.out.mirror.Mirror;
 import dev.zerojdk.adapter.out.release.FsJavaHomeDetector;
 import dev.zerojdk.adapter.out.release.FsJdkInstaller;
 import dev.zerojdk.adapter.out.release.FsJdkRegistrationRepository;
 import dev.zerojdk.adapter.out.shell.FsShellExtensionStorage;
+import dev.zerojdk.adapter.out.shell.hook.ShellHookWriter;
 import dev.zerojdk.adapter.out.unarchiver.DetectingUnarchiverFactory;
 import dev.zerojdk.adapter.out.wrapper.FsWrapperConfigRepository;
 import dev.zerojdk.adapter.out.wrapper.FsWrapperScriptRepository;
 import dev.zerojdk.adapter.out.wrapper.WrapperGitHubArtifactNameResolver;
 import dev.zerojdk.adapter.out.wrapper.WrapperGitHubReleaseResolver;
+import dev.zerojdk.domain.model.release.events.download.JdkDownloadProgress;
 import dev.zerojdk.domain.port.out.PlatformDetection;
 import dev.zerojdk.domain.port.out.catalog.CatalogProviderService;
 import dev.zerojdk.domain.port.out.catalog.CatalogStorageMetadataRepository;
 import dev.zerojdk.domain.port.out.download.DownloadService;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
 import dev.zerojdk.domain.port.out.layout.*;
 import dev.zerojdk.domain.port.out.release.JdkInstaller;
 import dev.zerojdk.domain.service.catalog.CatalogService;
@@ -39,63 +49,130 @@ import dev.zerojdk.domain.service.wrapper.WrapperInstaller;
 import dev.zerojdk.domain.service.wrapper.WrapperScriptGenerator;
 import dev.zerojdk.infrastructure.VersionProvider;
 
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
 public class ZjdkBootstrapper {
+    public static final String CATALOG_RELEASE_URL =
+        "https://api.github.com/repos/zero-jdk/zero-jdk-catalog/releases/latest";
+
     public static ZjdkRuntime bootstrap() {
+        return bootstrap(TimingRecorder.disabled());
+    }
+
+    public static ZjdkRuntime bootstrap(TimingRecorder timings) {
         // Common
         BaseLayout baseLayout = new FsBaseLayout();
-        PlatformDetection platformDetection = new SystemPropertyBasedPlatformDetection();
-        DownloadService downloadService = new HttpDownloadService();
+        // the caches and the shell hooks live next to core's own state
+        Path zjdkHome = baseLayout.baseDirectory();
+        PlatformDetection platformDetection = new PrecomputedPlatformDetection();
         VersionProvider versionProvider = new VersionProvider();
 
+        // Proxy and keep-alive settings have to be in place before the first HTTP client is built
+        NetworkSettings.fromEnvironment().apply();
+
         // Event Management
         InMemoryDomainEventPublisher eventPublisher = new InMemoryDomainEventPublisher();
-
-        ArchiveExtractionService archiveExtractionService =
-            new ArchiveExtractionService(new DetectingUnarchiverFactory(), eventPublisher);
-
-        CatalogProviderService providerService = new RemoteCatalogProviderService(
-            new GitHubReleaseClient(downloadService,
-                "https://api.github.com/repos/zero-jdk/zero-jdk-catalog/releases/latest"),
-            archiveExtractionService, eventPublisher);
-
-        // Catalog Storage setup
-        CatalogStorageService catalogStorageService = createCatalogStorageService(
-            baseLayout, providerService);
+        timings.register(eventPublisher);
+
+        // Console handlers run on their own thread unless ZJDK_EVENTS=sync, coalescing progress a slow console misses
+        DomainEventObserver consoleEvents = "sync".equalsIgnoreCase(System.getenv("ZJDK_EVENTS"))
+            ? eventPublisher
+            : new AsyncDomainEventObserver(eventPublisher, 1024, Set.of(JdkDownloadProgress.class));
+
+        // Config resolution and the resolved environment cache for the 'env' fast path
+        ConfigFileLocator configFileLocator = new ConfigFileLocator(zjdkHome.resolve("config.properties"),
+            zjdkHome.resolve("cache").resolve("roots.tsv"));
+        EnvCache envCache = new EnvCache(zjdkHome.resolve("cache").resolve("env.tsv"), configFileLocator);
+
+        // Everything below is wired lazily, so a command only constructs (and loads) the adapters it touches.
+        // Lambdas are typed by their port on purpose: a constructor reference would resolve the adapter eagerly.
+        // With timings enabled, every construction is recorded as an 'init' span.
+        // The catalog is only read by its first query, which is recorded as a 'catalog' span instead.
+        // With ZJDK_MIRROR set, the catalog and the archives are fetched from the mirror instead of their origins
+        Optional<Mirror> mirror = Mirror.fromEnvironment();
+        Lazy<DownloadService> downloadService = Lazy.of(timings.timed("init download-service", () -> {
+            DownloadService httpDownloadService = new HttpDownloadService();
+
+            return mirror
+                .map(m -> m.redirecting(DownloadService.class, httpDownloadService))
+                .orElse(httpDownloadService);
+        }));
+
+        Lazy<ArchiveExtractionService> archiveExtractionService = Lazy.of(timings.timed("init archive-extraction", () ->
+            new ArchiveExtractionService(new DetectingUnarchiverFactory(), eventPublisher)));
+
+        Lazy<CatalogProviderService> providerService = Lazy.of(timings.timed("init catalog-provider", () ->
+            new RemoteCatalogProviderService(
+                new GitHubReleaseClient(downloadService.get(), CATALOG_RELEASE_URL),
+                archiveExtractionService.get(), eventPublisher)));
+
+        // Catalog Storage setup, shared by 'update' and the catalog queries. The remote provider is only
+        // materialized once the storage actually has to fetch a catalog.
+        Lazy<CatalogStorageService> catalogStorageService = Lazy.of(timings.timed("init catalog-storage", () ->
+            createCatalogStorageService(baseLayout, timings.timed("catalog-provider", CatalogProviderService.class,
+                providerService.asProxy(CatalogProviderService.class)))));
+
+        // 'mirror populate' updates the catalog from the mirror it has just written, rather than from its origin
+        Function<Mirror, CatalogStorageService> catalogStorageFrom = m -> createCatalogStorageService(baseLayout,
+            new RemoteCatalogProviderService(
+                new GitHubReleaseClient(m.redirecting(DownloadService.class, new HttpDownloadService()),
+                    CATALOG_RELEASE_URL),
+                archiveExtractionService.get(), eventPublisher));
 
         // Catalog
-        CatalogService catalogService = createCatalogService(
-            baseLayout, providerService);
+        Lazy<CatalogService> catalogService = Lazy.of(() ->
+            createCatalogService(catalogStorageService.get(), timings));
+        // the index is checked against the catalog directory of the storage layout
+        CatalogLookup catalogLookup = new CatalogLookup(zjdkHome.resolve("cache").resolve("catalog.idx"),
+            zjdkHome.resolve("catalog"), Objects.requireNonNullElse(versionProvider.getVersion(), "unknown"), catalogService);
+        CatalogAutoRefresh catalogAutoRefresh = new CatalogAutoRefresh(zjdkHome.resolve("cache").resolve("catalog.stamp"),
+            CatalogAutoRefresh.intervalFrom(System.getenv(CatalogAutoRefresh.TTL_VARIABLE)));
 
         // JDK Config
-        JdkConfigService jdkConfigService = createJdkConfigService(baseLayout, catalogService);
+        Lazy<JdkConfigService> jdkConfigService = Lazy.of(timings.timed("init jdk-config", () ->
+            createJdkConfigService(baseLayout, catalogService.get())));
 
         // Jdk Release
-        JdkReleaseService jdkReleaseService = createJdkReleaseService(baseLayout, catalogService);
-        JdkInstallService jdkInstallService = createJdkInstallService(baseLayout, downloadService,
-            archiveExtractionService, eventPublisher, catalogService, jdkReleaseService);
+        Lazy<JdkReleaseLayout> jdkReleaseLayout = Lazy.of(() -> new FsJdkReleaseLayout(baseLayout));
+        Lazy<JdkReleaseService> jdkReleaseService = Lazy.of(timings.timed("init jdk-release", () ->
+            createJdkReleaseService(jdkReleaseLayout.get(), catalogService.get())));
+        Lazy<JdkInstallService> jdkInstallService = Lazy.of(timings.timed("init jdk-install", () ->
+            createJdkInstallService(jdkReleaseLayout.get(), downloadService.get(), archiveExtractionService.get(),
+                eventPublisher, catalogService.get(), jdkReleaseService.get(), timings)));
+
+        // 'env' and the daemon
+        EnvResolver envResolver = new EnvResolver(platformDetection, configFileLocator, envCache, jdkConfigService,
+            jdkReleaseService);
 
         // Sync aggregation
-        ManifestSyncService manifestSyncService = new ManifestSyncService(jdkConfigService, jdkInstallService);
+        Lazy<ManifestSyncService> manifestSyncService = Lazy.of(timings.timed("init manifest-sync", () ->
+            new ManifestSyncService(jdkConfigService.get(), jdkInstallService.get())));
 
         // Wrapper
-        WrapperInstaller wrapperInstaller = createWrapperInstaller(baseLayout);
+        Lazy<WrapperInstaller> wrapperInstaller = Lazy.of(timings.timed("init wrapper",
+            () -> createWrapperInstaller(baseLayout)));
 
-        // Shell Extensions
-        ShellExtensionWriter shellExtensionWriter = createShellExtensionWriter(baseLayout);
+        // Shell Extensions, installed by core's writer before. Its locations are turned into forwarders to the new ones
+        Lazy<ShellExtensionWriter> legacyShellWriter = Lazy.of(() ->
+            new ShellExtensionWriter(new FsShellExtensionStorage(new FsShellExtensionLayout(baseLayout))));
+        ShellHookWriter shellHookWriter = new ShellHookWriter(zjdkHome, legacyShellWriter);
 
         return new ZjdkRuntime(platformDetection, versionProvider, catalogService, catalogStorageService,
-            jdkConfigService, jdkReleaseService, jdkInstallService, manifestSyncService, wrapperInstaller,
-            shellExtensionWriter, eventPublisher
+            catalogStorageFrom, jdkConfigService, jdkReleaseService, jdkInstallService, manifestSyncService,
+            wrapperInstaller, shellHookWriter, eventPublisher, consoleEvents, zjdkHome, configFileLocator, envCache,
+            envResolver, catalogLookup, catalogAutoRefresh, timings
         );
     }
 
-    private static CatalogService createCatalogService(BaseLayout baseLayout, CatalogProviderService providerService) {
-        CatalogStorageLayout catalogStorageLayout = new FsCatalogStorageLayout(baseLayout);
-        CatalogStorageMetadataRepository metadataRepository =
-            new FsCatalogStorageMetadataRepository(catalogStorageLayout);
+    private static CatalogService createCatalogService(CatalogStorageService catalogStorageService,
+        TimingRecorder timings) {
 
-        CatalogStorageProvider storageProvider = new JsonCatalogStorageProvider(
-            new CatalogStorageService(providerService, metadataRepository));
+        CatalogStorageProvider storageProvider = timings.timed("catalog", CatalogStorageProvider.class,
+            new JsonCatalogStorageProvider(catalogStorageService));
 
         return new CatalogService(new JsonCatalogRepository(storageProvider));
     }
@@ -105,24 +182,25 @@ public class ZjdkBootstrapper {
             new FsJdkConfigRepository(baseLayout), catalogService);
     }
 
-    private static JdkReleaseService createJdkReleaseService(BaseLayout baseLayout, CatalogService catalogService) {
+    private static JdkReleaseService createJdkReleaseService(JdkReleaseLayout jdkReleaseLayout,
+        CatalogService catalogService) {
+
         return new JdkReleaseService(catalogService,
-            new FsJdkRegistrationRepository(
-                new FsJdkReleaseLayout(baseLayout)));
+            new FsJdkRegistrationRepository(jdkReleaseLayout));
     }
 
-    private static JdkInstallService createJdkInstallService(BaseLayout baseLayout, DownloadService downloadService,
-        ArchiveExtractionService archiveExtractionService, InMemoryDomainEventPublisher eventPublisher, CatalogService
-        catalogService, JdkReleaseService jdkReleaseService) {
-
-        JdkReleaseLayout jdkReleaseLayout = new FsJdkReleaseLayout(baseLayout);
+    private static JdkInstallService createJdkInstallService(JdkReleaseLayout jdkReleaseLayout,
+        DownloadService downloadService, ArchiveExtractionService archiveExtractionService,
+        InMemoryDomainEventPublisher eventPublisher, CatalogService catalogService,
+        JdkReleaseService jdkReleaseService, TimingRecorder timings) {
 
-        JdkInstaller installer = new FsJdkInstaller(jdkReleaseLayout,
+        JdkInstaller installer = timings.timed("installer", JdkInstaller.class, new FsJdkInstaller(jdkReleaseLayout,
             new FsJdkRegistrationRepository(jdkReleaseLayout),
-            new FsJavaHomeDetector());
+            new FsJavaHomeDetector()));
 
-        return new JdkInstallService(eventPublisher, jdkReleaseLayout, downloadService,
-            archiveExtractionService, catalogService, installer, jdkReleaseService);
+        return new JdkInstallService(eventPublisher, jdkReleaseLayout,
+            timings.timedDownloads(DownloadService.class, downloadService), archiveExtractionService, catalogService,
+            installer, jdkReleaseService);
     }
 
     private static WrapperInstaller createWrapperInstaller(BaseLayout baseLayout) {
@@ -140,13 +218,6 @@ public class ZjdkBootstrapper {
         );
     }
 
-    private static ShellExtensionWriter createShellExtensionWriter(BaseLayout baseLayout) {
-        ShellExtensionLayout layout = new FsShellExtensionLayout(baseLayout);
-
-        return new ShellExtensionWriter
-            (new FsShellExtensionStorage(layout));
-    }
-
     private static CatalogStorageService createCatalogStorageService(BaseLayout baseLayout,
         CatalogProviderService providerService) {
 
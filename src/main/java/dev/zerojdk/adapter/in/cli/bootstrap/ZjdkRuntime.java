@@ -1,20 +1,36 @@
 package dev.zerojdk.adapter.in.cli.bootstrap;
 
+import dev.zerojdk.adapter.in.cli.catalog.CatalogAutoRefresh;
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.env.ConfigFileLocator;
+import dev.zerojdk.adapter.in.cli.env.EnvCache;
+import dev.zerojdk.adapter.in.cli.env.EnvResolver;
+import dev.zerojdk.adapter.in.cli.timing.TimingRecorder;
 import dev.zerojdk.adapter.out.event.InMemoryDomainEventPublisher;
+import dev.zerojdk.adapter.out.mirror.Mirror;
+import dev.zerojdk.adapter.out.shell.hook.ShellHookWriter;
 import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
 import dev.zerojdk.domain.service.catalog.CatalogService;
 import dev.zerojdk.domain.service.catalog.storage.CatalogStorageService;
 import dev.zerojdk.domain.service.config.JdkConfigService;
 import dev.zerojdk.domain.service.install.JdkInstallService;
 import dev.zerojdk.domain.service.release.JdkReleaseService;
-import dev.zerojdk.domain.service.shell.ShellExtensionWriter;
 import dev.zerojdk.domain.service.sync.ManifestSyncService;
 import dev.zerojdk.domain.service.wrapper.WrapperInstaller;
 import dev.zerojdk.infrastructure.VersionProvider;
 
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 public record ZjdkRuntime(PlatformDetection platformDetection, VersionProvider versionProvider,
-                          CatalogService catalogService, CatalogStorageService catalogStorageService,
-                          JdkConfigService jdkConfigService, JdkReleaseService jdkReleaseService,
-                          JdkInstallService jdkInstallService, ManifestSyncService manifestSyncService,
-                          WrapperInstaller wrapperInstaller, ShellExtensionWriter shellExtensionWriter,
-                          InMemoryDomainEventPublisher eventPublisher) { }
+                          Supplier<CatalogService> catalogService, Supplier<CatalogStorageService> catalogStorageService,
+                          Function<Mirror, CatalogStorageService> catalogStorageFrom,
+                          Supplier<JdkConfigService> jdkConfigService, Supplier<JdkReleaseService> jdkReleaseService,
+                          Supplier<JdkInstallService> jdkInstallService, Supplier<ManifestSyncService> manifestSyncService,
+                          Supplier<WrapperInstaller> wrapperInstaller, ShellHookWriter shellHookWriter,
+                          InMemoryDomainEventPublisher eventPublisher, DomainEventObserver consoleEvents, Path zjdkHome,
+                          ConfigFileLocator configFileLocator, EnvCache envCache, EnvResolver envResolver,
+                          CatalogLookup catalogLookup, CatalogAutoRefresh catalogAutoRefresh,
+                          TimingRecorder timingRecorder) { }
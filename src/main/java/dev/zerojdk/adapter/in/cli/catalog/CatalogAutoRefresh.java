@@ -0,0 +1,123 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import dev.zerojdk.adapter.in.cli.bootstrap.EnvironmentValues;
+import org.graalvm.nativeimage.ImageInfo;
+import org.graalvm.nativeimage.ProcessProperties;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Refreshes the catalog in the background at most once per interval.
+ * <p>
+ * The time of the last refresh is the modification time of a stamp file. A due refresh is claimed under a file lock
+ * and performed by a detached 'zjdk update' process, so the command that triggered it never waits for the network.
+ * The interval is read from {@code ZJDK_CATALOG_TTL} as a duration, e.g. {@code 12h} or {@code 3d}, see
+ * {@link EnvironmentValues}. {@code 0} or {@code off} disables the refresh.
+ * <p>
+ * The refresh is off unless the variable is set: 'zjdk update' cannot ask for the catalog only if it changed, so
+ * every refresh downloads it in full.
+ */
+public class CatalogAutoRefresh {
+    public static final String TTL_VARIABLE = "ZJDK_CATALOG_TTL";
+
+    private static final Duration DEFAULT_INTERVAL = Duration.ZERO;
+
+    private final Path stamp;
+    private final Duration interval;
+
+    public CatalogAutoRefresh(Path stamp, Duration interval) {
+        this.stamp = stamp;
+        this.interval = interval;
+    }
+
+    public static Duration intervalFrom(String value) {
+        if (value != null && value.trim().equalsIgnoreCase("off")) {
+            return Duration.ZERO;
+        }
+
+        return EnvironmentValues.duration(TTL_VARIABLE, value, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Starts a background refresh if the last one is older than the interval. Only the native executable can
+     * re-launch itself, on the JVM this does nothing.
+     */
+    public void triggerIfDue() {
+        if (!ImageInfo.inImageRuntimeCode() || !claim()) {
+            return;
+        }
+
+        try {
+            new ProcessBuilder(ProcessProperties.getExecutableName(), "update")
+                .redirectInput(ProcessBuilder.Redirect.from(Path.of(nullDevice()).toFile()))
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        } catch (IOException e) {
+            // the next command past the interval tries again
+        }
+    }
+
+    /**
+     * Records a refresh performed by 'zjdk update'.
+     */
+    public void markRefreshed() {
+        try {
+            touch();
+        } catch (IOException e) {
+            // only means the next refresh happens early
+        }
+    }
+
+    boolean claim() {
+        if (interval.isZero() || interval.isNegative()) {
+            return false;
+        }
+
+        try {
+            Files.createDirectories(stamp.getParent());
+
+            try (FileChannel channel = FileChannel.open(stamp, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = channel.tryLock()) {
+
+                if (lock == null || !isDue()) {
+                    return false;
+                }
+
+                // written through the locked channel, a second handle may not write a locked file on every platform
+                channel.truncate(0).write(StandardCharsets.UTF_8.encode(Instant.now().toString()));
+                return true;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean isDue() throws IOException {
+        // a freshly created stamp is empty, it has never recorded a refresh
+        if (Files.size(stamp) == 0) {
+            return true;
+        }
+
+        Instant last = Files.getLastModifiedTime(stamp).toInstant();
+
+        return last.plus(interval).isBefore(Instant.now());
+    }
+
+    private void touch() throws IOException {
+        Files.createDirectories(stamp.getParent());
+        Files.writeString(stamp, Instant.now().toString());
+    }
+
+    private static String nullDevice() {
+        return System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null";
+    }
+}
@@ -0,0 +1,380 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.Platform;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Memory-mapped, read-only view of the catalog entries of a single platform.
+ * <p>
+ * Layout (big endian): header, string table, fixed size entry records grouped by distribution, a distribution table
+ * with the entry range of each distribution and the entry numbers ordered by identifier for binary search. Strings
+ * are only decoded for the records a query actually returns.
+ * <p>
+ * The header records the platform, the zjdk version and a stamp of the catalog files the index was built from, so an
+ * index outlived by its catalog, e.g. one updated by another zjdk version, is never read.
+ * <p>
+ * Only the fields listings render are stored, the versions read back lack the download details of the catalog entry.
+ * They serve listings and lookups for display, anything installing or downloading a version has to take it from the
+ * {@code CatalogService}.
+ */
+public class CatalogIndex {
+    private static final int MAGIC = 0x5A4A4349; // ZJCI
+    private static final int FORMAT = 2;
+    private static final Comparator<String> IDENTIFIER_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final int ENTRY_SIZE = 6 * Integer.BYTES + 2;
+
+    static final byte LATEST = 1;
+    static final byte LATEST_OF_DISTRIBUTION = 2;
+
+    private final ByteBuffer buffer;
+    private final int stringOffsets;
+    private final int stringData;
+    private final int entries;
+    private final int entryCount;
+    private final int distributions;
+    private final int distributionCount;
+    private final int identifiers;
+
+    private CatalogIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        int position = 2 * Integer.BYTES;
+        position = skipString(position);
+        position = skipString(position);
+        position = skipString(position);
+
+        int stringCount = buffer.getInt(position);
+        int stringBytes = buffer.getInt(position + Integer.BYTES);
+        this.stringOffsets = position + 2 * Integer.BYTES;
+        this.stringData = stringOffsets + (stringCount + 1) * Integer.BYTES;
+
+        position = stringData + stringBytes;
+        this.entryCount = buffer.getInt(position);
+        this.entries = position + Integer.BYTES;
+
+        position = entries + entryCount * ENTRY_SIZE;
+        this.distributionCount = buffer.getInt(position);
+        this.distributions = position + Integer.BYTES;
+        this.identifiers = distributions + distributionCount * 3 * Integer.BYTES;
+    }
+
+    /**
+     * Maps the index file if it exists and was built for the given platform key by the given zjdk version, from the
+     * catalog with the given {@link #stamp(Path) stamp}.
+     */
+    public static Optional<CatalogIndex> open(Path file, String platformKey, String version, String catalogStamp) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.limit() < 2 * Integer.BYTES
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(Integer.BYTES) != FORMAT) {
+                return Optional.empty();
+            }
+
+            int position = 2 * Integer.BYTES;
+            if (!platformKey.equals(readString(buffer, position))) {
+                return Optional.empty();
+            }
+            position += Short.BYTES + buffer.getShort(position);
+            if (!version.equals(readString(buffer, position))) {
+                return Optional.empty();
+            }
+            position += Short.BYTES + buffer.getShort(position);
+            if (!catalogStamp.equals(readString(buffer, position))) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new CatalogIndex(buffer));
+        } catch (IOException | RuntimeException e) {
+            // a broken index is never fatal, the catalog itself is still there
+            return Optional.empty();
+        }
+    }
+
+    public Map<String, List<JdkVersion>> findLatest(Platform platform) {
+        Map<String, List<JdkVersion>> latest = new LinkedHashMap<>();
+
+        for (int d = 0; d < distributionCount; d++) {
+            List<JdkVersion> versions = collect(d, LATEST, platform);
+
+            if (!versions.isEmpty()) {
+                latest.put(distributionName(d), versions);
+            }
+        }
+
+        return latest;
+    }
+
+    public List<JdkVersion> findLatestByDistribution(Platform platform, String distribution) {
+        return findDistribution(distribution)
+            .map(d -> collect(d, LATEST_OF_DISTRIBUTION, platform))
+            .orElse(List.of());
+    }
+
+    public List<JdkVersion> findAllByDistribution(Platform platform, String distribution) {
+        return findDistribution(distribution)
+            .map(d -> collect(d, (byte) 0, platform))
+            .orElse(List.of());
+    }
+
+    public Optional<JdkVersion> findByIdentifier(Platform platform, String identifier) {
+        int low = 0;
+        int high = entryCount - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = buffer.getInt(identifiers + middle * Integer.BYTES);
+            int comparison = IDENTIFIER_ORDER.compare(string(buffer.getInt(entryOffset(entry) + 3 * Integer.BYTES)),
+                identifier);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(read(entry, platform));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Integer> findDistribution(String distribution) {
+        return IntStream.range(0, distributionCount)
+            .filter(d -> distributionName(d).equalsIgnoreCase(distribution))
+            .boxed()
+            .findFirst();
+    }
+
+    private List<JdkVersion> collect(int distribution, byte flag, Platform platform) {
+        int offset = distributions + distribution * 3 * Integer.BYTES;
+        int first = buffer.getInt(offset + Integer.BYTES);
+        int count = buffer.getInt(offset + 2 * Integer.BYTES);
+
+        List<JdkVersion> versions = new ArrayList<>();
+        for (int entry = first; entry < first + count; entry++) {
+            if (flag == 0 || (buffer.get(entryOffset(entry) + ENTRY_SIZE - 1) & flag) != 0) {
+                versions.add(read(entry, platform));
+            }
+        }
+
+        return versions;
+    }
+
+    private JdkVersion read(int entry, Platform platform) {
+        int offset = entryOffset(entry);
+        JdkVersion version = new JdkVersion();
+
+        version.setDistribution(string(buffer.getInt(offset)));
+        version.setDistributionVersion(string(buffer.getInt(offset + Integer.BYTES)));
+        version.setJavaVersion(string(buffer.getInt(offset + 2 * Integer.BYTES)));
+        version.setIdentifier(string(buffer.getInt(offset + 3 * Integer.BYTES)));
+        version.setLink(string(buffer.getInt(offset + 4 * Integer.BYTES)));
+        version.setMajorVersion(buffer.getInt(offset + 5 * Integer.BYTES));
+        byte support = buffer.get(offset + 6 * Integer.BYTES);
+        version.setSupport(support < 0 ? null : JdkVersion.Support.values()[support]);
+        version.setPlatform(platform);
+
+        return version;
+    }
+
+    private String distributionName(int distribution) {
+        return string(buffer.getInt(distributions + distribution * 3 * Integer.BYTES));
+    }
+
+    private int entryOffset(int entry) {
+        return entries + entry * ENTRY_SIZE;
+    }
+
+    private String string(int index) {
+        if (index < 0) {
+            return null;
+        }
+
+        int start = buffer.getInt(stringOffsets + index * Integer.BYTES);
+        int end = buffer.getInt(stringOffsets + (index + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringData + start, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipString(int position) {
+        return position + Short.BYTES + buffer.getShort(position);
+    }
+
+    private static String readString(ByteBuffer buffer, int position) {
+        byte[] bytes = new byte[buffer.getShort(position)];
+        buffer.get(position + Short.BYTES, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Identifies the state of a catalog file, or of all files below a catalog directory, by their file key,
+     * modification time and size. Changes whenever the catalog is replaced or rewritten in place.
+     */
+    public static String stamp(Path catalog) {
+        if (!Files.exists(catalog)) {
+            return "none";
+        }
+
+        try (Stream<Path> files = Files.walk(catalog)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (Path path : files.sorted().toList()) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+                if (attributes.isRegularFile()) {
+                    digest.update((catalog.relativize(path) + "|" + attributes.fileKey() + "|"
+                        + attributes.lastModifiedTime().toMillis() + "|" + attributes.size() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes an index for the given distributions. Each list holds all versions of a distribution, the flags mark
+     * by identifier which of them are reported as latest overall and as latest of their distribution.
+     */
+    static void write(Path file, String platformKey, String version, String catalogStamp,
+                      Map<String, List<JdkVersion>> distributions, Map<String, Byte> flags) {
+
+        StringTable strings = new StringTable();
+        List<JdkVersion> all = distributions.values().stream().flatMap(List::stream).toList();
+        distributions.keySet().forEach(strings::add);
+        all.forEach(v -> {
+            strings.add(v.getDistribution());
+            strings.add(v.getDistributionVersion());
+            strings.add(v.getJavaVersion());
+            strings.add(v.getIdentifier());
+            strings.add(v.getLink());
+        });
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            writeString(out, platformKey);
+            writeString(out, version);
+            writeString(out, catalogStamp);
+
+            strings.writeTo(out);
+
+            out.writeInt(all.size());
+            for (JdkVersion v : all) {
+                out.writeInt(strings.indexOf(v.getDistribution()));
+                out.writeInt(strings.indexOf(v.getDistributionVersion()));
+                out.writeInt(strings.indexOf(v.getJavaVersion()));
+                out.writeInt(strings.indexOf(v.getIdentifier()));
+                out.writeInt(strings.indexOf(v.getLink()));
+                out.writeInt(v.getMajorVersion());
+                out.writeByte(v.getSupport() == null ? -1 : v.getSupport().ordinal());
+                out.writeByte(v.getIdentifier() == null ? 0 : flags.getOrDefault(v.getIdentifier(), (byte) 0));
+            }
+
+            out.writeInt(distributions.size());
+            int first = 0;
+            for (Map.Entry<String, List<JdkVersion>> distribution : distributions.entrySet()) {
+                out.writeInt(strings.indexOf(distribution.getKey()));
+                out.writeInt(first);
+                out.writeInt(distribution.getValue().size());
+                first += distribution.getValue().size();
+            }
+
+            int[] byIdentifier = IntStream.range(0, all.size()).boxed()
+                .sorted(Comparator.comparing(i -> all.get(i).getIdentifier(), IDENTIFIER_ORDER))
+                .mapToInt(Integer::intValue)
+                .toArray();
+            for (int entry : byIdentifier) {
+                out.writeInt(entry);
+            }
+
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+
+        void add(String value) {
+            if (value != null && !indices.containsKey(value)) {
+                indices.put(value, values.size());
+                values.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int indexOf(String value) {
+            return value == null ? -1 : indices.get(value);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int size = values.stream().mapToInt(v -> v.length).sum();
+
+            out.writeInt(values.size());
+            out.writeInt(size);
+
+            int offset = 0;
+            for (byte[] value : values) {
+                out.writeInt(offset);
+                offset += value.length;
+            }
+            out.writeInt(offset);
+
+            for (byte[] value : values) {
+                out.write(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.service.catalog.CatalogService;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Answers catalog queries from the {@link CatalogIndex} when it is current and from the {@link CatalogService}
+ * otherwise. The index is rebuilt by 'zjdk update', so it is stale when it was written for another platform or
+ * zjdk version, when the catalog has changed since, or is missing altogether.
+ * <p>
+ * Versions answered from the index are meant for display only, see {@link CatalogIndex}.
+ */
+public class CatalogLookup {
+    private final Path indexFile;
+    private final Path catalog;
+    private final String version;
+    private final Supplier<CatalogService> catalogService;
+
+    private volatile Optional<CatalogIndex> index;
+
+    public CatalogLookup(Path indexFile, Path catalog, String version, Supplier<CatalogService> catalogService) {
+        this.indexFile = indexFile;
+        this.catalog = catalog;
+        this.version = version;
+        this.catalogService = catalogService;
+    }
+
+    public Map<String, List<JdkVersion>> findLatest(Platform platform) {
+        return index()
+            .map(i -> i.findLatest(platform))
+            .orElseGet(() -> catalogService.get().findLatest(platform));
+    }
+
+    public List<JdkVersion> findLatestByDistribution(Platform platform, String distribution) {
+        return index()
+            .map(i -> i.findLatestByDistribution(platform, distribution))
+            .orElseGet(() -> catalogService.get().findLatestByDistribution(platform, distribution));
+    }
+
+    public List<JdkVersion> findAllByDistribution(Platform platform, String distribution) {
+        return index()
+            .map(i -> i.findAllByDistribution(platform, distribution))
+            .orElseGet(() -> catalogService.get().findAllByDistribution(platform, distribution));
+    }
+
+    public Optional<JdkVersion> findByIdentifier(Platform platform, String identifier) {
+        return index()
+            .map(i -> i.findByIdentifier(platform, identifier))
+            .orElseGet(() -> catalogService.get().findByIdentifier(platform, identifier));
+    }
+
+    /**
+     * Rebuilds the index for the given platform from the catalog service.
+     */
+    public void rebuild(Platform platform) {
+        // taken first, a catalog replaced while the index is being built leaves the index stale rather than wrong
+        String catalogStamp = CatalogIndex.stamp(this.catalog);
+        CatalogService catalog = catalogService.get();
+        Map<String, List<JdkVersion>> latest = catalog.findLatest(platform);
+
+        Map<String, List<JdkVersion>> distributions = new LinkedHashMap<>();
+        Map<String, Byte> flags = new HashMap<>();
+
+        latest.keySet().stream().sorted().forEach(distribution -> {
+            distributions.put(distribution, catalog.findAllByDistribution(platform, distribution));
+
+            latest.get(distribution).forEach(v -> flag(flags, v, CatalogIndex.LATEST));
+            catalog.findLatestByDistribution(platform, distribution)
+                .forEach(v -> flag(flags, v, CatalogIndex.LATEST_OF_DISTRIBUTION));
+        });
+
+        CatalogIndex.write(indexFile, platformKey(), version, catalogStamp, distributions, flags);
+        index = null;
+    }
+
+    private Optional<CatalogIndex> index() {
+        Optional<CatalogIndex> result = index;
+
+        if (result == null) {
+            result = CatalogIndex.open(indexFile, platformKey(), version, CatalogIndex.stamp(catalog));
+            index = result;
+        }
+
+        return result;
+    }
+
+    private static void flag(Map<String, Byte> flags, JdkVersion version, byte flag) {
+        flags.merge(version.getIdentifier(), flag, (a, b) -> (byte) (a | b));
+    }
+
+    // the same properties the platform detection is based on, the index only ever describes this machine
+    private static String platformKey() {
+        return System.getProperty("os.name") + "/" + System.getProperty("os.arch");
+    }
+}
@@ -0,0 +1,98 @@
+package dev.zerojdk.adapter.in.cli.console;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+
+/**
+ * Console output without format strings.
+ * <p>
+ * {@link #install()} replaces {@code System.out} with a large buffer that is only written out when it is full or
+ * flushed explicitly, so listings cost a handful of writes instead of one per line. Anything interactive, such as
+ * progress, has to {@link #flush()} itself.
+ */
+public class Console {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PADDING = "          ";
+
+    private final PrintStream out;
+
+    public Console(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Installs the buffered standard output, which is flushed at the latest when the process exits.
+     */
+    public static void install() {
+        PrintStream buffered = new PrintStream(
+            new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE), false, System.out.charset());
+
+        System.setOut(buffered);
+        Runtime.getRuntime().addShutdownHook(new Thread(buffered::flush));
+    }
+
+    public static Console stdout() {
+        return new Console(System.out);
+    }
+
+    /**
+     * Whether standard output is a terminal, as opposed to a pipe, file or CI log.
+     */
+    public static boolean isInteractive() {
+        java.io.Console console = System.console();
+
+        return console != null && console.isTerminal();
+    }
+
+    public Console print(String value) {
+        out.print(value);
+        return this;
+    }
+
+    public Console print(Object value) {
+        out.print(value);
+        return this;
+    }
+
+    public Console print(char value) {
+        out.print(value);
+        return this;
+    }
+
+    public Console print(long value) {
+        out.print(value);
+        return this;
+    }
+
+    /**
+     * Prints the value right-aligned in a field of the given width (at most ten characters wider than the value).
+     */
+    public Console print(long value, int width) {
+        int digits = value < 0 ? 2 : 1;
+        for (long remaining = Math.abs(value); remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+
+        if (width > digits) {
+            out.print(PADDING.substring(0, Math.min(width - digits, PADDING.length())));
+        }
+        out.print(value);
+        return this;
+    }
+
+    public Console println(String value) {
+        out.println(value);
+        return this;
+    }
+
+    public Console println() {
+        out.println();
+        return this;
+    }
+
+    public void flush() {
+        out.flush();
+    }
+}
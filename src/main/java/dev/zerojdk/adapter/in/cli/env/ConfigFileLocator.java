@@ -0,0 +1,151 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import dev.zerojdk.domain.model.context.LayoutContext;
+import dev.zerojdk.domain.model.context.LayoutContexts;
+import dev.zerojdk.domain.model.context.LocalLayoutContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Finds the configuration file that governs a directory: the nearest {@code .zjdk/config.properties} in the
+ * directory or one of its parents, or the global configuration if there is none.
+ * <p>
+ * Resolved project roots, and directories without one, are remembered in a bounded {@link LookupTable} that can be
+ * persisted across invocations. A remembered root is reused as long as its own configuration file exists and none
+ * was created in the directories between it and the looked up one, which only probes the levels below the root
+ * instead of walking up to the filesystem root. Nothing that cheap can confirm a directory is still unmanaged, so
+ * those entries expire after {@link #TTL}. Commands that create configurations call {@link #invalidate()} to be
+ * noticed at once.
+ */
+public class ConfigFileLocator {
+    static final String CONFIG_DIRECTORY = ".zjdk";
+    static final String CONFIG_FILE = "config.properties";
+
+    static final Duration TTL = Duration.ofMinutes(10);
+    static final int CAPACITY = 512;
+
+    private static final String UNMANAGED = "-";
+    private static final String SEPARATOR = "\t";
+
+    private final Path globalConfig;
+    private final LookupTable entries;
+    private final LongSupplier clock;
+
+    public ConfigFileLocator(Path globalConfig) {
+        this(globalConfig, null);
+    }
+
+    /**
+     * @param lookupTable where resolved roots are persisted, or {@code null} to only remember them in memory
+     */
+    public ConfigFileLocator(Path globalConfig, Path lookupTable) {
+        this(globalConfig, lookupTable, System::currentTimeMillis);
+    }
+
+    ConfigFileLocator(Path globalConfig, Path lookupTable, LongSupplier clock) {
+        this.globalConfig = globalConfig;
+        this.entries = new LookupTable(lookupTable, CAPACITY);
+        this.clock = clock;
+    }
+
+    public Optional<Path> locate(Path directory) {
+        return locateProjectRoot(directory)
+            .map(ConfigFileLocator::configOf)
+            .or(() -> Files.isRegularFile(globalConfig)
+                ? Optional.of(globalConfig)
+                : Optional.empty());
+    }
+
+    /**
+     * Returns the layout context governing the given directory: the nearest local configuration, or the global one.
+     * Unlike {@link LayoutContexts#current()}, an unmanaged directory is not an error.
+     */
+    public LayoutContext contextOf(Path directory) {
+        return locateProjectRoot(directory)
+            .<LayoutContext>map(LocalLayoutContext::new)
+            .orElseGet(LayoutContexts::global);
+    }
+
+    /**
+     * Returns the nearest directory, starting at the given one, that holds a local configuration.
+     */
+    public Optional<Path> locateProjectRoot(Path directory) {
+        Optional<Optional<Path>> cached = entries.get(directory.toString())
+            .flatMap(entry -> validate(directory, entry));
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Optional<Path> root = walk(directory);
+        entries.put(directory.toString(),
+            root.map(Path::toString).orElse(UNMANAGED) + SEPARATOR + clock.getAsLong());
+
+        return root;
+    }
+
+    /**
+     * Forgets every resolved root, e.g. after a configuration was created.
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    private static Optional<Path> walk(Path directory) {
+        for (Path current = directory; current != null; current = current.getParent()) {
+            if (Files.isRegularFile(configOf(current))) {
+                return Optional.of(current);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return the cached root if the entry is still valid, or empty if the directory has to be walked again
+     */
+    private Optional<Optional<Path>> validate(Path directory, String entry) {
+        String[] parts = entry.split(SEPARATOR, 2);
+        if (parts.length != 2) {
+            return Optional.empty();
+        }
+
+        if (parts[0].equals(UNMANAGED)) {
+            return isExpired(parts[1])
+                ? Optional.empty()
+                : Optional.of(Optional.empty());
+        }
+
+        Path root = Path.of(parts[0]);
+        if (!directory.startsWith(root) || !Files.isRegularFile(configOf(root))) {
+            return Optional.empty();
+        }
+
+        // a configuration created below the root since takes over
+        for (Path current = directory; !current.equals(root); current = current.getParent()) {
+            if (Files.isRegularFile(configOf(current))) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(Optional.of(root));
+    }
+
+    private boolean isExpired(String resolvedAt) {
+        try {
+            long age = clock.getAsLong() - Long.parseLong(resolvedAt);
+
+            return age < 0 || age > TTL.toMillis();
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static Path configOf(Path projectRoot) {
+        return projectRoot.resolve(CONFIG_DIRECTORY).resolve(CONFIG_FILE);
+    }
+}
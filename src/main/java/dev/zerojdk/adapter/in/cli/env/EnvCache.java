@@ -0,0 +1,88 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * Persistent cache of directory to resolved {@code JAVA_HOME}, used by {@code zjdk env} to skip the catalog and
+ * the release registrations on every prompt.
+ * <p>
+ * An entry is only valid while the governing configuration file has the same path, modification time and file
+ * key it had when the entry was written, and the cached {@code JAVA_HOME} still exists. Commands that change
+ * configurations or installations call {@link #invalidate()}, which also drops the resolved project roots.
+ * <p>
+ * The cache holds the {@value #CAPACITY} most recently resolved directories. A miss appends a line to the cache
+ * file rather than rewriting it, see {@link LookupTable}.
+ * <p>
+ * Every invalidation touches a stamp file next to the cache, which the shell integration scripts compare against
+ * to notice that exports they hold on to may be outdated.
+ */
+public class EnvCache {
+    static final int CAPACITY = 512;
+    public static final String STAMP_FILE = "env.stamp";
+
+    private static final String SEPARATOR = "\t";
+
+    private final Path cacheFile;
+    private final ConfigFileLocator configFileLocator;
+    private final LookupTable entries;
+
+    public EnvCache(Path cacheFile, ConfigFileLocator configFileLocator) {
+        this.cacheFile = cacheFile;
+        this.configFileLocator = configFileLocator;
+        this.entries = new LookupTable(cacheFile, CAPACITY);
+    }
+
+    public Optional<String> find(Path directory) {
+        Optional<String> entry = entries.get(directory.toString());
+
+        if (entry.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String[] parts = entry.get().split(SEPARATOR, 2);
+        if (parts.length != 2) {
+            return Optional.empty();
+        }
+
+        String javaHome = parts[1];
+
+        return configFileLocator.locate(directory)
+            .flatMap(EnvCache::fingerprint)
+            .filter(parts[0]::equals)
+            .filter(ignored -> Files.isDirectory(Path.of(javaHome)))
+            .map(ignored -> javaHome);
+    }
+
+    public void put(Path directory, String javaHome) {
+        configFileLocator.locate(directory)
+            .flatMap(EnvCache::fingerprint)
+            .ifPresent(fingerprint -> entries.put(directory.toString(), fingerprint + SEPARATOR + javaHome));
+    }
+
+    public void invalidate() {
+        configFileLocator.invalidate();
+        entries.clear();
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile.resolveSibling(STAMP_FILE), new byte[0]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<String> fingerprint(Path config) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(config, BasicFileAttributes.class);
+
+            return Optional.of(config + "|" + attributes.lastModifiedTime().toMillis() + "|" + attributes.fileKey());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import dev.zerojdk.domain.port.out.PlatformDetection;
+import dev.zerojdk.domain.service.config.JdkConfigService;
+import dev.zerojdk.domain.service.release.JdkReleaseService;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the {@code JAVA_HOME} of the JDK governing a directory, for {@code zjdk env} and the daemon alike. A hit
+ * in the {@link EnvCache} skips the configuration and the release registrations, a miss resolves both and fills the
+ * cache.
+ */
+@RequiredArgsConstructor
+public class EnvResolver {
+    private final PlatformDetection platformDetection;
+    private final ConfigFileLocator configFileLocator;
+    private final EnvCache envCache;
+    private final Supplier<JdkConfigService> jdkConfigService;
+    private final Supplier<JdkReleaseService> jdkReleaseService;
+
+    public Optional<String> javaHome(Path directory) {
+        return envCache.find(directory)
+            .or(() -> resolve(directory));
+    }
+
+    /**
+     * The configuration file the environment of the given directory is resolved from, if any.
+     */
+    public Optional<Path> governingConfig(Path directory) {
+        return configFileLocator.locate(directory);
+    }
+
+    public String activeVersion(Path directory) {
+        return jdkConfigService.get().getActiveVersion(configFileLocator.contextOf(directory));
+    }
+
+    private Optional<String> resolve(Path directory) {
+        return jdkReleaseService.get().findJdkRelease(platformDetection.detect(), activeVersion(directory))
+            .map(release -> {
+                String javaHome = release.javaHome().toString();
+
+                envCache.put(directory, javaHome);
+                return javaHome;
+            });
+    }
+}
@@ -0,0 +1,140 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A bounded map of strings, optionally persisted as a file of tab separated lines in which later lines override
+ * earlier ones. Storing an entry appends a single line instead of rewriting the file, and the file is compacted to
+ * the entries still held once it has grown to twice the capacity. When full, the least recently stored entry is
+ * evicted.
+ */
+class LookupTable {
+    private static final String SEPARATOR = "\t";
+
+    private final Path file;
+    private final int capacity;
+    private final Map<String, String> entries;
+    private boolean loaded;
+
+    /**
+     * @param file where the entries are persisted, or {@code null} to only keep them in memory
+     */
+    LookupTable(Path file, int capacity) {
+        this.file = file;
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > LookupTable.this.capacity;
+            }
+        };
+    }
+
+    synchronized Optional<String> get(String key) {
+        load();
+
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    synchronized void put(String key, String value) {
+        load();
+
+        // re-inserted, so the entry counts as the most recent one
+        entries.remove(key);
+        entries.put(key, value);
+
+        if (file != null && !key.contains(SEPARATOR) && !key.contains("\n") && !value.contains("\n")) {
+            append(key + SEPARATOR + value + "\n");
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        loaded = true;
+
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (file == null) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            // a broken table is treated as empty, it is replaced on the next compaction
+            return;
+        }
+
+        for (String line : lines) {
+            int separator = line.indexOf(SEPARATOR);
+
+            if (separator > 0) {
+                String key = line.substring(0, separator);
+                entries.remove(key);
+                entries.put(key, line.substring(separator + 1));
+            }
+        }
+
+        if (lines.size() >= 2 * capacity) {
+            compact();
+        }
+    }
+
+    // a single write per line, so appends of concurrent shells interleave by line rather than within one
+    private void append(String line) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // caching is best effort, the next invocation simply resolves again
+        }
+    }
+
+    private void compact() {
+        StringBuilder content = new StringBuilder();
+        entries.forEach((key, value) -> content.append(key).append(SEPARATOR).append(value).append('\n'));
+
+        try {
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            try {
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+
+                // lines appended by a concurrent shell in the meantime are lost, which only costs it another miss
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            // compacted again by the next invocation
+        }
+    }
+}
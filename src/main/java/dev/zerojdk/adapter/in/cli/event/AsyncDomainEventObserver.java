@@ -0,0 +1,208 @@
+package dev.zerojdk.adapter.in.cli.event;
+
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands domain events to their handlers on a dedicated thread, so console rendering does not hold up the thread that
+ * published an event, typically a download.
+ * <p>
+ * Events wait in a bounded queue, a full queue holds the publisher back until the handlers caught up. An event of a
+ * coalesced type replaces the pending event of the same handler published by the same thread, so a slow console only
+ * renders the latest progress. Any other event published by that thread ends coalescing, which keeps the order of
+ * events per thread. Closing a registration returns once every event published before has been handled.
+ * <p>
+ * Publishing takes no lock: the queue is a non-blocking linked queue, its bound a counter, and a pending event is
+ * only known to the thread that published it, which hands it over to the consumer through a single atomic slot. The
+ * consumer parks while the queue is empty and is woken by the next publisher.
+ * <p>
+ * Handlers that attribute events to the publishing thread have to use {@link #publisher()}.
+ */
+public class AsyncDomainEventObserver implements DomainEventObserver {
+    private static final ThreadLocal<Thread> PUBLISHER = new ThreadLocal<>();
+    private static final long FULL_BACKOFF_NANOS = 100_000;
+
+    private final DomainEventObserver delegate;
+    private final Set<Class<?>> coalesced;
+    private final int capacity;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean parked = new AtomicBoolean();
+    private final AtomicReference<Thread> consumer = new AtomicReference<>();
+    // the pending event of every coalescing handler, per publishing thread
+    private final ThreadLocal<Map<Consumer<?>, Pending<?>>> pending = ThreadLocal.withInitial(HashMap::new);
+
+    public AsyncDomainEventObserver(DomainEventObserver delegate, int capacity, Set<Class<?>> coalesced) {
+        this.delegate = delegate;
+        this.coalesced = coalesced;
+        this.capacity = capacity;
+    }
+
+    /**
+     * The thread that published the event being handled, the current thread outside of a handler.
+     */
+    public static Thread publisher() {
+        Thread publisher = PUBLISHER.get();
+
+        return publisher != null ? publisher : Thread.currentThread();
+    }
+
+    @Override
+    public <T> Observer register(Class<T> type, Consumer<T> handler) {
+        start();
+
+        boolean coalesce = coalesced.contains(type);
+        Observer registration = delegate.register(type, event -> publish(handler, event, coalesce));
+
+        return () -> {
+            registration.close();
+            flush();
+        };
+    }
+
+    /**
+     * Waits until every event queued so far has been handled.
+     */
+    public void flush() {
+        if (Thread.currentThread() == consumer.get()) {
+            return;
+        }
+
+        CountDownLatch handled = new CountDownLatch(1);
+        enqueue(handled::countDown);
+
+        try {
+            handled.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void start() {
+        if (consumer.get() != null) {
+            return;
+        }
+
+        Thread thread = Thread.ofPlatform()
+            .name("zjdk-events")
+            .daemon()
+            .unstarted(this::drain);
+
+        if (consumer.compareAndSet(null, thread)) {
+            thread.start();
+        }
+    }
+
+    private <T> void publish(Consumer<T> handler, T event, boolean coalesce) {
+        Map<Consumer<?>, Pending<?>> published = pending.get();
+
+        if (!coalesce) {
+            published.clear();
+            Thread publisher = Thread.currentThread();
+            enqueue(() -> dispatch(publisher, handler, event));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Pending<T> existing = (Pending<T>) published.get(handler);
+        if (existing != null && existing.replace(event)) {
+            return;
+        }
+
+        Pending<T> next = new Pending<>(Thread.currentThread(), handler, event);
+        published.put(handler, next);
+        enqueue(next);
+    }
+
+    private void enqueue(Runnable task) {
+        while (true) {
+            int size = queued.get();
+
+            if (size < capacity && queued.compareAndSet(size, size + 1)) {
+                break;
+            }
+            if (size >= capacity) {
+                LockSupport.parkNanos(FULL_BACKOFF_NANOS);
+            }
+        }
+
+        queue.offer(task);
+
+        if (parked.compareAndSet(true, false)) {
+            LockSupport.unpark(consumer.get());
+        }
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Runnable task = queue.poll();
+
+            if (task != null) {
+                queued.decrementAndGet();
+                task.run();
+                continue;
+            }
+
+            // announced before checking again, so a publisher either sees the flag or its task is found here
+            parked.set(true);
+            if (queue.isEmpty()) {
+                LockSupport.park(this);
+            }
+            parked.set(false);
+        }
+    }
+
+    private static <T> void dispatch(Thread publisher, Consumer<T> handler, T event) {
+        PUBLISHER.set(publisher);
+
+        try {
+            handler.accept(event);
+        } catch (RuntimeException e) {
+            // a failing console handler must not stop the handling of later events
+            System.err.println(e.getMessage() != null ? e.getMessage() : e.toString());
+        } finally {
+            PUBLISHER.remove();
+        }
+    }
+
+    private static class Pending<T> implements Runnable {
+        private static final Object TAKEN = new Object();
+
+        private final Thread publisher;
+        private final Consumer<T> handler;
+        private final AtomicReference<Object> event;
+
+        Pending(Thread publisher, Consumer<T> handler, T event) {
+            this.publisher = publisher;
+            this.handler = handler;
+            this.event = new AtomicReference<>(event);
+        }
+
+        /**
+         * Replaces the event unless the consumer has taken it already. Only called by the publisher.
+         */
+        boolean replace(T next) {
+            Object current = event.get();
+
+            return current != TAKEN && event.compareAndSet(current, next);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            dispatch(publisher, handler, (T) event.getAndSet(TAKEN));
+        }
+    }
+}
@@ -1,41 +1,82 @@
 package dev.zerojdk.adapter.in.cli.event;
 
+import dev.zerojdk.adapter.in.cli.console.Console;
 import dev.zerojdk.domain.port.out.event.DomainEventObserver;
 import dev.zerojdk.domain.port.out.event.Observer;
 import dev.zerojdk.domain.model.release.events.download.JdkDownloadProgress;
 import dev.zerojdk.domain.model.release.events.download.JdkDownloadStarted;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Renders the progress of a single download. On a terminal the progress is repainted in place at most every
+ * 100 ms, otherwise a line is logged every 10 %.
+ */
 public class JdkDownloadProgressPrinter implements ConsoleEventHandler {
+    private static final String CSI = "\u001B[";
+    private static final String SAVE_CURSOR = CSI + "s";
+    private static final String RESTORE_CURSOR = CSI + "u" + CSI + "K";
+
+    private final Console out;
+    private final boolean interactive;
+
+    private ProgressMeter meter;
+    private String identifier;
+
+    public JdkDownloadProgressPrinter() {
+        this(Console.stdout(), Console.isInteractive());
+    }
+
+    public JdkDownloadProgressPrinter(Console out, boolean interactive) {
+        this.out = out;
+        this.interactive = interactive;
+    }
+
     @Override
     public Observer register(DomainEventObserver observer) {
-        final String CSI = "\u001B[";
-
         List<Observer> observers = new ArrayList<>();
 
         observers.add(
             observer.register(JdkDownloadStarted.class, e -> {
-                    System.out.printf("Downloading: %s... ", e.version().getIdentifier());
-                    System.out.print(CSI + "s");
-                    System.out.flush();
+                    identifier = e.version().getIdentifier();
+                    meter = interactive
+                        ? new ProgressMeter(Duration.ofMillis(100), 1)
+                        : new ProgressMeter(Duration.ZERO, 10);
+
+                    out.print("Downloading: ").print(identifier).print("... ");
+                    if (interactive) {
+                        out.print(SAVE_CURSOR);
+                    } else {
+                        out.println();
+                    }
+                    out.flush();
                 }
             )
         );
 
         observers.add(
             observer.register(JdkDownloadProgress.class, e -> {
-                System.out.print(CSI + "u");
-                System.out.printf("%3d%%", e.bytesRead() * 100 / e.totalBytes());
-                System.out.flush();
+                if (meter == null || !meter.update(e.bytesRead(), e.totalBytes())) {
+                    return;
+                }
 
-                if (e.bytesRead() >= e.totalBytes()) {
-                    System.out.println();
+                if (interactive) {
+                    out.print(RESTORE_CURSOR);
+                    meter.render(out);
+                    if (meter.isFinished()) {
+                        out.println();
+                    }
+                } else {
+                    out.print("  ").print(identifier).print(':');
+                    meter.render(out);
+                    out.println();
                 }
+                out.flush();
             })
         );
 
         return () -> observers.forEach(Observer::close);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package dev.zerojdk.adapter.in.cli.event;
+
+import dev.zerojdk.adapter.in.cli.console.Console;
+import dev.zerojdk.domain.model.release.events.download.JdkDownloadProgress;
+import dev.zerojdk.domain.model.release.events.download.JdkDownloadStarted;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders one progress line per concurrent download and repaints them in place, each at most every 100 ms. When
+ * standard output is not a terminal, a line is logged per download every 10 % instead.
+ * <p>
+ * Download events are published on the thread performing the download, and progress events do not name their
+ * download, so progress is attributed to the download most recently started by the same publishing thread.
+ */
+public class MultiDownloadProgressPrinter implements ConsoleEventHandler {
+    private static final String CSI = "\u001B[";
+    private static final String CLEAR_LINE = "A\r" + CSI + "2K";
+
+    private final Console out;
+    private final boolean interactive;
+    private final List<String> labels = new ArrayList<>();
+    private final Map<Thread, Integer> lineByThread = new HashMap<>();
+    private final Map<Thread, ProgressMeter> meterByThread = new HashMap<>();
+
+    public MultiDownloadProgressPrinter() {
+        this(Console.stdout(), Console.isInteractive());
+    }
+
+    public MultiDownloadProgressPrinter(Console out, boolean interactive) {
+        this.out = out;
+        this.interactive = interactive;
+    }
+
+    @Override
+    public Observer register(DomainEventObserver observer) {
+        List<Observer> observers = new ArrayList<>();
+
+        observers.add(observer.register(JdkDownloadStarted.class, this::started));
+        observers.add(observer.register(JdkDownloadProgress.class, this::progressed));
+
+        return () -> observers.forEach(Observer::close);
+    }
+
+    private synchronized void started(JdkDownloadStarted e) {
+        lineByThread.put(AsyncDomainEventObserver.publisher(), labels.size());
+        meterByThread.put(AsyncDomainEventObserver.publisher(), interactive
+            ? new ProgressMeter(Duration.ofMillis(100), 1)
+            : new ProgressMeter(Duration.ZERO, 10));
+        labels.add("Downloading: " + e.version().getIdentifier() + "... ");
+
+        out.print(labels.getLast()).println(interactive ? "  0%" : "");
+        out.flush();
+    }
+
+    private synchronized void progressed(JdkDownloadProgress e) {
+        Integer line = lineByThread.get(AsyncDomainEventObserver.publisher());
+        ProgressMeter meter = meterByThread.get(AsyncDomainEventObserver.publisher());
+
+        if (line == null || !meter.update(e.bytesRead(), e.totalBytes())) {
+            return;
+        }
+
+        if (interactive) {
+            int up = labels.size() - line;
+
+            out.print(CSI).print(up).print(CLEAR_LINE).print(labels.get(line));
+            meter.render(out);
+            out.print(CSI).print(up).print("B\r");
+        } else {
+            out.print(labels.get(line));
+            meter.render(out);
+            out.println();
+        }
+        out.flush();
+    }
+}
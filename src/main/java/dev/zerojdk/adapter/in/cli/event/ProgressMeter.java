@@ -0,0 +1,94 @@
+package dev.zerojdk.adapter.in.cli.event;
+
+import dev.zerojdk.adapter.in.cli.console.Console;
+
+import java.time.Duration;
+
+/**
+ * Tracks the progress of one download, decides which progress events are worth rendering and derives throughput
+ * and remaining time.
+ * <p>
+ * Progress events arrive per buffer read. An event is only rendered once the percentage advanced by the given step
+ * and the given interval passed since the last rendering, completion is always rendered.
+ */
+public class ProgressMeter {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long BYTES_PER_MB = 1_000_000L;
+
+    private final long minIntervalNanos;
+    private final int percentStep;
+    private final long startNanos;
+
+    private int percent = -1;
+    private long lastRenderNanos;
+    private long bytesRead;
+    private long totalBytes;
+    private long elapsedNanos;
+    private boolean finished;
+
+    public ProgressMeter(Duration minInterval, int percentStep) {
+        this(minInterval, percentStep, System.nanoTime());
+    }
+
+    ProgressMeter(Duration minInterval, int percentStep, long startNanos) {
+        this.minIntervalNanos = minInterval.toNanos();
+        this.percentStep = percentStep;
+        this.startNanos = startNanos;
+        this.lastRenderNanos = startNanos - minIntervalNanos;
+    }
+
+    /**
+     * Records progress and tells whether it should be rendered.
+     */
+    public boolean update(long bytesRead, long totalBytes) {
+        return update(bytesRead, totalBytes, System.nanoTime());
+    }
+
+    boolean update(long bytesRead, long totalBytes, long now) {
+        if (finished || totalBytes <= 0) {
+            return false;
+        }
+
+        int current = (int) (bytesRead * 100 / totalBytes);
+        boolean done = bytesRead >= totalBytes;
+
+        if (!done && (current < percent + percentStep || now - lastRenderNanos < minIntervalNanos)) {
+            return false;
+        }
+
+        this.percent = current;
+        this.bytesRead = bytesRead;
+        this.totalBytes = totalBytes;
+        this.elapsedNanos = now - startNanos;
+        this.lastRenderNanos = now;
+        this.finished = done;
+
+        return true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Prints e.g. {@code " 42%  12.3 MB/s  ETA 0:07"} for the last rendered update.
+     */
+    public void render(Console out) {
+        out.print(Math.min(percent, 100), 3).print('%');
+
+        if (elapsedNanos <= 0 || bytesRead <= 0) {
+            return;
+        }
+
+        long bytesPerSecond = bytesRead * NANOS_PER_SECOND / elapsedNanos;
+        long tenths = bytesPerSecond * 10 / BYTES_PER_MB;
+
+        out.print("  ").print(tenths / 10).print('.').print(tenths % 10).print(" MB/s");
+
+        if (!finished && bytesPerSecond > 0) {
+            long seconds = (totalBytes - bytesRead) / bytesPerSecond;
+
+            out.print("  ETA ").print(seconds / 60).print(':').print(seconds % 60 < 10 ? "0" : "").print(seconds % 60);
+        }
+    }
+}
@@ -6,9 +6,15 @@ import dev.zerojdk.domain.service.config.UnsupportedIdentifierException;
 import dev.zerojdk.domain.service.install.JdkDownloadFailedException;
 import picocli.CommandLine;
 
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public class CliExecutionExceptionHandler implements CommandLine.IExecutionExceptionHandler {
     @Override
     public int handleExecutionException(Exception ex, CommandLine commandLine, CommandLine.ParseResult fullParseResult) {
+        // stdout is buffered, let what the command printed so far appear before the error
+        System.out.flush();
+
         if (ex instanceof UnsupportedIdentifierException e) {
             System.err.printf("The defined version %s is not supported\n", e.getIdentifier());
         } else if (ex instanceof UnmanagedDirectoryException) {
@@ -16,11 +22,24 @@ public class CliExecutionExceptionHandler implements CommandLine.IExecutionExcep
         } else if (ex instanceof ConfigFileAlreadyExistsException) {
             System.err.println("Already initialized. Run 'set version' to change it or 'sync' to install");
         } else if (ex instanceof JdkDownloadFailedException e) {
-            System.err.printf("There was an issue downloading the '%s'", e.getJdkVersion().getIdentifier());
+            System.err.printf("There was an issue downloading '%s'%s%n", e.getJdkVersion().getIdentifier(), reason(e));
+            // downloads are started by 'init', 'set', 'install' and 'sync' alike, so the hint repeats the failed command
+            System.err.printf("Re-run '%s' to try again%n", invocation(fullParseResult));
         } else {
             System.err.println(ex.getMessage());
         }
 
         return 1;
     }
+
+    private static String invocation(CommandLine.ParseResult parseResult) {
+        return Stream.concat(Stream.of(parseResult.commandSpec().name()), parseResult.originalArgs().stream())
+            .collect(Collectors.joining(" "));
+    }
+
+    private static String reason(Exception ex) {
+        return ex.getCause() != null && ex.getCause().getMessage() != null
+            ? ": " + ex.getCause().getMessage()
+            : "";
+    }
 }
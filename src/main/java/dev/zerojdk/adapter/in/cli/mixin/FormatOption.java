@@ -0,0 +1,18 @@
+package dev.zerojdk.adapter.in.cli.mixin;
+
+import dev.zerojdk.adapter.in.cli.renderer.OutputFormat;
+import picocli.CommandLine;
+
+public class FormatOption {
+    @CommandLine.Option(names = {"--format"}, defaultValue = "text", paramLabel = "<format>",
+        description = "Output format: text, json, ndjson or tsv (default: ${DEFAULT-VALUE})")
+    private OutputFormat format;
+
+    public OutputFormat format() {
+        return format;
+    }
+
+    public boolean isStructured() {
+        return format != OutputFormat.TEXT;
+    }
+}
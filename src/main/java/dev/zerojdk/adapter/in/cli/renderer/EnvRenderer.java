@@ -0,0 +1,35 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import dev.zerojdk.adapter.in.cli.console.Console;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class EnvRenderer {
+    private static final String EXPORT_JAVA_HOME = "export JAVA_HOME=\"";
+    private static final String EXPORT_PATH = "export PATH=\"$JAVA_HOME/bin:$PATH\"";
+    private static final String CACHE_KEY = "# zjdk-cache-key ";
+
+    private final Console out;
+
+    public EnvRenderer() {
+        this(Console.stdout());
+    }
+
+    public EnvRenderer(Console out) {
+        this.out = out;
+    }
+
+    public void render(String javaHome) {
+        out.print(EXPORT_JAVA_HOME).print(javaHome).print("\"\n");
+        out.println(EXPORT_PATH);
+    }
+
+    /**
+     * Prints the configuration file the output depends on, as a comment that is ignored when the output is
+     * evaluated. The shell integration reuses the output for as long as it finds the same, unmodified file.
+     */
+    public void renderCacheKey(Optional<Path> config) {
+        out.print(CACHE_KEY).println(config.map(Path::toString).orElse(""));
+    }
+}
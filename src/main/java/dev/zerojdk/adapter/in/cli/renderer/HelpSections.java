@@ -0,0 +1,27 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The command groups of 'zjdk --help', rendered by {@link CommandGroupRenderer}. Initialized at build time in the
+ * native image.
+ */
+public final class HelpSections {
+    public static final Map<String, List<String>> ZJDK;
+
+    static {
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        sections.put("%nBootstrap%n", List.of("init", "sync", "install", "wrapper"));
+        sections.put("%nVersion Management%n", List.of("list", "set", "info"));
+        sections.put("%nEnvironment%n", List.of("env", "shell", "daemon"));
+        sections.put("%nMaintenance%n", List.of("update", "dedupe", "mirror"));
+
+        ZJDK = Collections.unmodifiableMap(sections);
+    }
+
+    private HelpSections() {
+    }
+}
@@ -1,12 +1,29 @@
 package dev.zerojdk.adapter.in.cli.renderer;
 
+import dev.zerojdk.adapter.in.cli.console.Console;
 import dev.zerojdk.domain.model.release.JdkRelease;
 
 import java.util.Comparator;
 import java.util.List;
 
 public class JdkReleaseRenderer {
-    private final JdkVersionRenderer  jdkVersionRenderer = new  JdkVersionRenderer();
+    public static final Comparator<JdkRelease> BY_DISTRIBUTION_AND_VERSION = Comparator
+        .comparing((JdkRelease release) -> release.jdkVersion().getDistribution())
+        .thenComparing((JdkRelease release) -> release.jdkVersion().getDistributionVersion());
+
+    private static final String JAVA_HOME = "Java Home:     ";
+
+    private final Console out;
+    private final JdkVersionRenderer jdkVersionRenderer;
+
+    public JdkReleaseRenderer() {
+        this(Console.stdout());
+    }
+
+    public JdkReleaseRenderer(Console out) {
+        this.out = out;
+        this.jdkVersionRenderer = new JdkVersionRenderer(out);
+    }
 
     public void render(List<JdkRelease> versions, int indent, Comparator<JdkRelease> ordering) {
         String whitespace = " ".repeat(indent);
@@ -19,7 +36,7 @@ public class JdkReleaseRenderer {
     public void render(String ws, JdkRelease r) {
         jdkVersionRenderer.render(ws, r.jdkVersion());
 
-        System.out.printf("%sJava Home:     %s%n", ws, r.javaHome());
-        System.out.println();
+        out.print(ws).print(JAVA_HOME).print(r.javaHome()).println();
+        out.println();
     }
 }
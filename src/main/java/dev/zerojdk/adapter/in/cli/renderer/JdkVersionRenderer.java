@@ -1,5 +1,6 @@
 package dev.zerojdk.adapter.in.cli.renderer;
 
+import dev.zerojdk.adapter.in.cli.console.Console;
 import dev.zerojdk.domain.model.JdkVersion;
 
 import java.util.Comparator;
@@ -7,6 +8,21 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class JdkVersionRenderer {
+    private static final String VERSION = "Version:       ";
+    private static final String IDENTIFIERS = "Identifier(s): ";
+    private static final String SUPPORT = "Support:       ";
+    private static final String LINK = "Link:          ";
+
+    private final Console out;
+
+    public JdkVersionRenderer() {
+        this(Console.stdout());
+    }
+
+    public JdkVersionRenderer(Console out) {
+        this.out = out;
+    }
+
     public void render(List<JdkVersion> versions, int indent, Comparator<JdkVersion> ordering) {
         String whitespace = " ".repeat(indent);
 
@@ -16,15 +32,16 @@ public class JdkVersionRenderer {
     }
 
     public void render(String ws, JdkVersion v) {
-        System.out.printf("%sVersion:       %s (%d - %s)%n", ws, v.getDistributionVersion(), v.getMajorVersion(), v.getJavaVersion());
-        System.out.printf("%sIdentifier(s): %s%n", ws, v.getIdentifier());
-        System.out.printf("%sSupport:       %s%n", ws, v.getSupport() == JdkVersion.Support.LTS ? "LTS" : "Non-LTS");
-        System.out.printf("%sLink:          %s%n", ws, v.getLink());
+        out.print(ws).print(VERSION).print(v.getDistributionVersion())
+            .print(" (").print(v.getMajorVersion()).print(" - ").print(v.getJavaVersion()).println(")");
+        out.print(ws).print(IDENTIFIERS).println(v.getIdentifier());
+        out.print(ws).print(SUPPORT).println(v.getSupport() == JdkVersion.Support.LTS ? "LTS" : "Non-LTS");
+        out.print(ws).print(LINK).println(v.getLink());
     }
 
     private void printJdkVersion(String ws, JdkVersion v) {
         render(ws, v);
-        System.out.println();
+        out.println();
     }
 
     private List<JdkVersion> mergeVariants(List<JdkVersion> versions) {
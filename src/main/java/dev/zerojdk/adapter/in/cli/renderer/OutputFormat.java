@@ -0,0 +1,5 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+public enum OutputFormat {
+    TEXT, JSON, NDJSON, TSV
+}
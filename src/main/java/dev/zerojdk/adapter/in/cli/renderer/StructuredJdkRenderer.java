@@ -0,0 +1,47 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.release.JdkRelease;
+
+/**
+ * Field layout of catalog entries and installed releases in structured output. Names follow the catalog.
+ */
+public class StructuredJdkRenderer {
+    public static final String[] VERSION_COLUMNS = {
+        "distribution", "distribution_version", "java_version", "major_version", "identifier", "support", "link"
+    };
+    public static final String[] RELEASE_COLUMNS = {
+        "distribution", "distribution_version", "java_version", "major_version", "identifier", "support", "link",
+        "java_home"
+    };
+
+    private final StructuredWriter writer;
+
+    public StructuredJdkRenderer(StructuredWriter writer) {
+        this.writer = writer;
+    }
+
+    public void render(JdkVersion v) {
+        writer.beginRecord();
+        fields(v);
+        writer.endRecord();
+    }
+
+    public void render(JdkRelease r) {
+        writer.beginRecord();
+        fields(r.jdkVersion());
+        writer.field("java_home", r.javaHome().toString());
+        writer.endRecord();
+    }
+
+    private void fields(JdkVersion v) {
+        writer
+            .field("distribution", v.getDistribution())
+            .field("distribution_version", v.getDistributionVersion())
+            .field("java_version", v.getJavaVersion())
+            .field("major_version", v.getMajorVersion())
+            .field("identifier", v.getIdentifier())
+            .field("support", v.getSupport() == JdkVersion.Support.LTS ? "LTS" : "Non-LTS")
+            .field("link", v.getLink());
+    }
+}
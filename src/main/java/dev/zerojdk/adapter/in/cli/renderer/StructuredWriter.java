@@ -0,0 +1,256 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams records as JSON, NDJSON or TSV.
+ * <p>
+ * Values are escaped straight into the underlying writer, in runs between the characters that need escaping, so no
+ * intermediate string is built per field. A JSON list is a single array with one record per line, a single JSON
+ * record is a plain object. TSV starts with a header line of the declared columns.
+ */
+public class StructuredWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+    private final OutputFormat format;
+    private final String[] columns;
+    private final char[] digits = new char[20];
+
+    private boolean list;
+    private int records;
+    private int fields;
+
+    public StructuredWriter(Writer out, OutputFormat format, String... columns) {
+        if (format == OutputFormat.TEXT) {
+            throw new IllegalArgumentException("Text output is rendered by the text renderers");
+        }
+
+        this.out = out;
+        this.format = format;
+        this.columns = columns;
+    }
+
+    /**
+     * Writes to standard output through a single large buffer, which is only flushed by {@link #flush()}.
+     */
+    public static StructuredWriter stdout(OutputFormat format, String... columns) {
+        System.out.flush();
+
+        return new StructuredWriter(new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), BUFFER_SIZE), format, columns);
+    }
+
+    public StructuredWriter beginList() {
+        list = true;
+
+        if (format == OutputFormat.JSON) {
+            write('[');
+        } else if (format == OutputFormat.TSV) {
+            header();
+        }
+
+        return this;
+    }
+
+    public StructuredWriter beginRecord() {
+        fields = 0;
+
+        switch (format) {
+            case JSON -> {
+                if (list) {
+                    write(records > 0 ? ",\n" : "\n");
+                }
+                write('{');
+            }
+            case NDJSON -> write('{');
+            case TSV -> {
+                if (!list && records == 0) {
+                    header();
+                }
+            }
+            default -> { }
+        }
+
+        return this;
+    }
+
+    public StructuredWriter field(String name, String value) {
+        separator(name);
+
+        if (format == OutputFormat.TSV) {
+            if (value != null) {
+                escapeTsv(value);
+            }
+        } else if (value == null) {
+            write("null");
+        } else {
+            write('"');
+            escapeJson(value);
+            write('"');
+        }
+
+        return this;
+    }
+
+    public StructuredWriter field(String name, long value) {
+        separator(name);
+
+        int position = digits.length;
+        long remaining = Math.abs(value);
+
+        do {
+            digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+
+        write(digits, position, digits.length - position);
+
+        return this;
+    }
+
+    public StructuredWriter endRecord() {
+        switch (format) {
+            case JSON -> write(list ? "}" : "}\n");
+            case NDJSON -> write("}\n");
+            case TSV -> write('\n');
+            default -> { }
+        }
+
+        records++;
+
+        return this;
+    }
+
+    public StructuredWriter endList() {
+        if (format == OutputFormat.JSON) {
+            write(records > 0 ? "\n]\n" : "]\n");
+        }
+
+        return this;
+    }
+
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void header() {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                write('\t');
+            }
+            write(columns[i]);
+        }
+        write('\n');
+    }
+
+    private void separator(String name) {
+        if (format == OutputFormat.TSV) {
+            if (fields > 0) {
+                write('\t');
+            }
+        } else {
+            write(fields > 0 ? ",\"" : "\"");
+            write(name);
+            write("\":");
+        }
+
+        fields++;
+    }
+
+    private void escapeJson(String value) {
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '"' || c == '\\' || c < 0x20) {
+                write(value, start, i - start);
+                write('\\');
+
+                switch (c) {
+                    case '"', '\\' -> write(c);
+                    case '\n' -> write('n');
+                    case '\r' -> write('r');
+                    case '\t' -> write('t');
+                    default -> {
+                        write("u00");
+                        write(HEX[c >> 4]);
+                        write(HEX[c & 0xF]);
+                    }
+                }
+
+                start = i + 1;
+            }
+        }
+
+        write(value, start, value.length() - start);
+    }
+
+    private void escapeTsv(String value) {
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '\t' || c == '\n' || c == '\r' || c == '\\') {
+                write(value, start, i - start);
+                write('\\');
+                write(switch (c) {
+                    case '\t' -> 't';
+                    case '\n' -> 'n';
+                    case '\r' -> 'r';
+                    default -> '\\';
+                });
+
+                start = i + 1;
+            }
+        }
+
+        write(value, start, value.length() - start);
+    }
+
+    private void write(char c) {
+        try {
+            out.write(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String value) {
+        write(value, 0, value.length());
+    }
+
+    private void write(String value, int offset, int length) {
+        try {
+            out.write(value, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(char[] value, int offset, int length) {
+        try {
+            out.write(value, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import dev.zerojdk.adapter.in.cli.timing.Span;
+
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints spans in the order they started, indented below the spans of the same thread that enclose them.
+ */
+public class TimingRenderer {
+    private final PrintStream out;
+
+    public TimingRenderer() {
+        this(System.err);
+    }
+
+    public TimingRenderer(PrintStream out) {
+        this.out = out;
+    }
+
+    public void render(String command, List<Span> spans) {
+        Map<String, Deque<Span>> open = new HashMap<>();
+
+        out.printf("%nTimings (%s):%n", command);
+
+        for (Span span : spans) {
+            Deque<Span> enclosing = open.computeIfAbsent(span.thread(), t -> new ArrayDeque<>());
+
+            while (!enclosing.isEmpty() && enclosing.peek().endNanos() < span.endNanos()) {
+                enclosing.pop();
+            }
+
+            out.printf("  %10.1f ms  %s%s%s%n",
+                span.durationNanos() / 1_000_000.0,
+                "  ".repeat(enclosing.size()),
+                span.name(),
+                span.thread().equals("main") ? "" : " [" + span.thread() + "]");
+
+            enclosing.push(span);
+        }
+    }
+}
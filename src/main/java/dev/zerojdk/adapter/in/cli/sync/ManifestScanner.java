@@ -0,0 +1,48 @@
+package dev.zerojdk.adapter.in.cli.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects every project directory holding a {@code .zjdk/config.properties} below a root directory. Hidden
+ * directories such as {@code .git} are not descended into.
+ */
+public class ManifestScanner {
+    public List<Path> scan(Path root) {
+        List<Path> projects = new ArrayList<>();
+
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(root) && dir.getFileName().toString().startsWith(".")) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+
+                    if (Files.isRegularFile(dir.resolve(".zjdk").resolve("config.properties"))) {
+                        projects.add(dir);
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // unreadable directories cannot hold a manifest we could sync anyway
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return projects;
+    }
+}
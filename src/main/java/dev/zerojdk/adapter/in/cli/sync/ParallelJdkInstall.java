@@ -0,0 +1,41 @@
+package dev.zerojdk.adapter.in.cli.sync;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.service.install.JdkInstallService;
+import dev.zerojdk.infrastructure.Futures;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Installs catalog versions directly, without a project configuration, with at most {@code parallelism} installs
+ * running at a time.
+ */
+@RequiredArgsConstructor
+public class ParallelJdkInstall {
+    private final JdkInstallService jdkInstallService;
+
+    /**
+     * Installs each of the given versions once.
+     */
+    public void install(Collection<JdkVersion> versions, int parallelism) {
+        Map<String, JdkVersion> distinct = new LinkedHashMap<>();
+        versions.forEach(version -> distinct.putIfAbsent(version.getIdentifier(), version));
+
+        List<Future<?>> installs = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            distinct.values().forEach(version -> installs.add(executor.submit(() ->
+                jdkInstallService.install(version))));
+        }
+
+        Futures.rethrowFailures(installs, "installing");
+    }
+}
@@ -0,0 +1,57 @@
+package dev.zerojdk.adapter.in.cli.sync;
+
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.model.context.LocalLayoutContext;
+import dev.zerojdk.domain.service.config.JdkConfigService;
+import dev.zerojdk.domain.service.sync.ManifestSyncService;
+import dev.zerojdk.infrastructure.Futures;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Synchronizes many project configurations at once. Projects are grouped by their configured version, and each
+ * distinct version is downloaded and extracted once, with at most {@code parallelism} installs running at a time.
+ * <p>
+ * Core does not declare its services thread safe, so only what is known to be independent runs concurrently: the
+ * configurations are read one after the other on the calling thread, and the pool runs a single sync per distinct
+ * version. Two workers therefore never install into the same release directory. What they do share is the catalog,
+ * which is only read, and the event publisher, whose console observers run on a single thread of their own unless
+ * {@code ZJDK_EVENTS=sync}. This assumes the release registrations tolerate concurrent installs of different
+ * versions, as {@link ParallelJdkInstall} does.
+ */
+@RequiredArgsConstructor
+public class ParallelManifestSync {
+    private final JdkConfigService jdkConfigService;
+    private final ManifestSyncService manifestSyncService;
+
+    /**
+     * @return the synchronized projects, grouped by version
+     */
+    public Map<String, List<Path>> sync(Platform platform, List<Path> projects, int parallelism) {
+        Map<String, List<Path>> projectsByVersion = new LinkedHashMap<>();
+        for (Path project : projects) {
+            String version = jdkConfigService.getActiveVersion(new LocalLayoutContext(project));
+            projectsByVersion.computeIfAbsent(version, v -> new ArrayList<>()).add(project);
+        }
+
+        List<Future<?>> installs = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            // syncing one project per version installs the version for all projects that share it
+            projectsByVersion.values().forEach(group -> installs.add(executor.submit(() ->
+                manifestSyncService.sync(platform, new LocalLayoutContext(group.getFirst())))));
+        }
+
+        Futures.rethrowFailures(installs, "installing");
+
+        return projectsByVersion;
+    }
+}
@@ -0,0 +1,7 @@
+package dev.zerojdk.adapter.in.cli.timing;
+
+public record Span(String name, String thread, long startNanos, long durationNanos) {
+    public long endNanos() {
+        return startNanos + durationNanos;
+    }
+}
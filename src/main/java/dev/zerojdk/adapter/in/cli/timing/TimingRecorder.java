@@ -0,0 +1,150 @@
+package dev.zerojdk.adapter.in.cli.timing;
+
+import dev.zerojdk.domain.model.release.events.download.JdkDownloadStarted;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects the time spent in the phases of a zjdk invocation.
+ * <p>
+ * A disabled recorder records nothing and hands out the given services unwrapped, so timing has no cost unless it
+ * was requested with '--timings' or {@code ZJDK_TRACE_FILE}.
+ */
+public class TimingRecorder {
+    private final boolean enabled;
+    private final long origin = System.nanoTime();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final Map<Thread, String> downloads = new ConcurrentHashMap<>();
+
+    public TimingRecorder(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static TimingRecorder disabled() {
+        return new TimingRecorder(false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a span that is recorded when closed.
+     */
+    public Open start(String name) {
+        return new Open(name, System.nanoTime());
+    }
+
+    public <T> T time(String name, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        try (Open ignored = start(name)) {
+            return action.get();
+        }
+    }
+
+    public <T> Supplier<T> timed(String name, Supplier<T> factory) {
+        return enabled
+            ? () -> time(name, factory)
+            : factory;
+    }
+
+    /**
+     * Wraps a port so that every call to it is recorded as {@code <name>.<method>}.
+     */
+    public <T> T timed(String name, Class<T> port, T target) {
+        return proxy(port, target, method -> name + "." + method.getName());
+    }
+
+    /**
+     * Wraps the download port so that every download is recorded from the call until it returned or failed, named
+     * after the JDK whose download was announced on the same thread, if any.
+     */
+    public <T> T timedDownloads(Class<T> port, T target) {
+        return proxy(port, target, method -> {
+            String jdk = downloads.remove(Thread.currentThread());
+
+            return jdk == null ? "download" : "download " + jdk;
+        });
+    }
+
+    /**
+     * Names the download spans after the JDK being downloaded. The events carry no completion or failure, the span
+     * itself is closed by the download port returning, see {@link #timedDownloads(Class, Object)}.
+     */
+    public void register(DomainEventObserver observer) {
+        if (!enabled) {
+            return;
+        }
+
+        observer.register(JdkDownloadStarted.class, e ->
+            downloads.put(Thread.currentThread(), e.version().getIdentifier()));
+    }
+
+    /**
+     * The recorded spans ordered by their start, with start times relative to the creation of this recorder.
+     */
+    public List<Span> spans() {
+        return spans.stream()
+            .map(s -> new Span(s.name(), s.thread(), s.startNanos() - origin, s.durationNanos()))
+            .sorted(Comparator.comparingLong(Span::startNanos))
+            .toList();
+    }
+
+    // the name is taken once the call is done, as the events naming a download arrive while it is running
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> port, T target, Function<Method, String> name) {
+        if (!enabled) {
+            return target;
+        }
+
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[] { port }, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                record(name.apply(method), start);
+            }
+        });
+    }
+
+    private void record(String name, long start) {
+        if (enabled) {
+            spans.add(new Span(name, Thread.currentThread().getName(), start, System.nanoTime() - start));
+        }
+    }
+
+    public class Open implements AutoCloseable {
+        private final String name;
+        private final long start;
+
+        private Open(String name, long start) {
+            this.name = name;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            record(name, start);
+        }
+    }
+}
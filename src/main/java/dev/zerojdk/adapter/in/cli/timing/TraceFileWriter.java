@@ -0,0 +1,64 @@
+package dev.zerojdk.adapter.in.cli.timing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends spans as JSON lines, one object per span, so the files of many invocations can be concatenated and
+ * aggregated.
+ */
+public class TraceFileWriter {
+    public static final String TRACE_FILE_VARIABLE = "ZJDK_TRACE_FILE";
+
+    private final Path file;
+
+    public TraceFileWriter(Path file) {
+        this.file = file;
+    }
+
+    public void write(String command, List<Span> spans) {
+        String invocation = Instant.now().toString();
+        long pid = ProcessHandle.current().pid();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+            for (Span span : spans) {
+                writer.write(String.format(
+                    "{\"timestamp\":\"%s\",\"pid\":%d,\"command\":\"%s\",\"span\":\"%s\",\"thread\":\"%s\","
+                        + "\"start_us\":%d,\"duration_us\":%d}",
+                    invocation, pid, escape(command), escape(span.name()), escape(span.thread()),
+                    span.startNanos() / 1_000, span.durationNanos() / 1_000));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            System.err.printf("Failed to write trace file '%s': %s%n", file, e.getMessage());
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+
+        return result.toString();
+    }
+}
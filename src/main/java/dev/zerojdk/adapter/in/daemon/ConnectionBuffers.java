@@ -0,0 +1,127 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The buffers serving one connection. The request is read into a direct buffer and decoded without an intermediate
+ * array, and the response is encoded through a print stream that writes to the channel through the same buffer.
+ * {@link DaemonServer} pools instances, so under the epsilon GC a request only leaves the request string and what
+ * the handler allocates behind.
+ */
+class ConnectionBuffers {
+    static final int BUFFER_SIZE = 8192;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final PrintStream out = new PrintStream(new ChannelOutput(), false, StandardCharsets.UTF_8);
+
+    private SocketChannel channel;
+
+    /**
+     * Reads the first line the client sends, without the line terminator.
+     */
+    String readRequest(SocketChannel channel, int maxLength) throws IOException {
+        buffer.clear();
+
+        int length = -1;
+        int scanned = 0;
+
+        while (length == -1) {
+            if (channel.read(buffer) == -1) {
+                length = buffer.position();
+                break;
+            }
+
+            for (; scanned < buffer.position(); scanned++) {
+                if (buffer.get(scanned) == '\n') {
+                    length = scanned;
+                    break;
+                }
+            }
+
+            if (length == -1 && buffer.position() > maxLength) {
+                throw new IOException("Daemon request exceeds " + maxLength + " bytes");
+            }
+        }
+
+        if (length > maxLength) {
+            throw new IOException("Daemon request exceeds " + maxLength + " bytes");
+        }
+
+        buffer.limit(length).position(0);
+        chars.clear();
+        decoder.reset();
+        decoder.decode(buffer, chars, true);
+        decoder.flush(chars);
+
+        return chars.flip().toString();
+    }
+
+    /**
+     * Returns the stream the response to the given channel is written to, {@link #finish()} sends what is left.
+     */
+    PrintStream responseTo(SocketChannel channel) {
+        this.channel = channel;
+        buffer.clear();
+
+        return out;
+    }
+
+    /**
+     * @return whether the buffers can be reused, which they cannot after a write failed part way
+     */
+    boolean finish() {
+        out.flush();
+        channel = null;
+
+        return !out.checkError();
+    }
+
+    private class ChannelOutput extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+
+                int chunk = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import java.nio.file.Path;
+
+public class DaemonAlreadyRunningException extends RuntimeException {
+    public DaemonAlreadyRunningException(Path socket) {
+        super("A zjdk daemon is already listening on " + socket);
+    }
+}
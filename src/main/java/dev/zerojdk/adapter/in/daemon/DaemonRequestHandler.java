@@ -0,0 +1,149 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import dev.zerojdk.adapter.in.cli.catalog.CatalogIndex;
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.console.Console;
+import dev.zerojdk.adapter.in.cli.env.EnvResolver;
+import dev.zerojdk.adapter.in.cli.renderer.EnvRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.JdkReleaseRenderer;
+import dev.zerojdk.adapter.in.cli.renderer.JdkVersionRenderer;
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.model.release.JdkRelease;
+import dev.zerojdk.domain.service.release.JdkReleaseService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Answers a single daemon request. A request is one line of the form {@code <command>[\t<directory>]}, where the
+ * directory is the client's working directory. The response is exactly what the corresponding zjdk command prints.
+ * <ul>
+ *     <li>{@code env\t<directory>} - same as {@code zjdk env}</li>
+ *     <li>{@code env-key\t<directory>} - same as {@code zjdk env --emit-cache-key}</li>
+ *     <li>{@code info\t<directory>} - same as {@code zjdk info}</li>
+ *     <li>{@code list-installed} - same as {@code zjdk list installed}</li>
+ * </ul>
+ * The services are loaded again whenever the env stamp or the catalog changed since they were loaded, so the daemon
+ * sees what other zjdk invocations configured, installed or updated. Lookups run one at a time, as the services are
+ * not meant to be shared between threads, only the rendering of the responses runs concurrently.
+ */
+public class DaemonRequestHandler {
+    private final Platform platform;
+    private final Supplier<Services> loader;
+    private final Path envStamp;
+    private final Path catalog;
+
+    // a lock rather than synchronized, which would pin the virtual threads serving the connections
+    private final ReentrantLock lock = new ReentrantLock();
+    private Services services;
+    private String loadedStamp;
+
+    /**
+     * @param loader creates the services from what is currently on disk
+     * @param envStamp the stamp touched whenever configurations or installations change
+     * @param catalog the catalog directory
+     */
+    public DaemonRequestHandler(Platform platform, Supplier<Services> loader, Path envStamp, Path catalog) {
+        this.platform = platform;
+        this.loader = loader;
+        this.envStamp = envStamp;
+        this.catalog = catalog;
+    }
+
+    /**
+     * Loads the services up front, so the first request finds them warm.
+     */
+    public void preload() {
+        lookup(s -> s.jdkReleaseService().get());
+    }
+
+    public void handle(String request, PrintStream out) {
+        String[] parts = request.split("\t", 2);
+
+        switch (parts[0]) {
+            case "env" -> env(directory(parts), out);
+            case "env-key" -> envWithCacheKey(directory(parts), out);
+            case "info" -> info(directory(parts), out);
+            case "list-installed" -> listInstalled(out);
+            default -> throw new IllegalArgumentException("Unknown daemon request: " + parts[0]);
+        }
+    }
+
+    private void env(Path directory, PrintStream out) {
+        lookup(s -> s.envResolver().javaHome(directory))
+            .ifPresent(new EnvRenderer(new Console(out))::render);
+    }
+
+    private void envWithCacheKey(Path directory, PrintStream out) {
+        EnvRenderer envRenderer = new EnvRenderer(new Console(out));
+        Env env = lookup(s -> new Env(s.envResolver().javaHome(directory), s.envResolver().governingConfig(directory)));
+
+        env.javaHome().ifPresent(envRenderer::render);
+        envRenderer.renderCacheKey(env.config());
+    }
+
+    private void info(Path directory, PrintStream out) {
+        JdkVersionRenderer jdkVersionRenderer = new JdkVersionRenderer(new Console(out));
+        Optional<JdkVersion> version = lookup(s ->
+            s.catalogLookup().findByIdentifier(platform, s.envResolver().activeVersion(directory)));
+
+        version.ifPresent(v -> jdkVersionRenderer.render("", v));
+    }
+
+    private void listInstalled(PrintStream out) {
+        List<JdkRelease> releases = lookup(s -> s.jdkReleaseService().get().findInstalledJdkReleases(platform));
+
+        new JdkReleaseRenderer(new Console(out)).render(releases, 0, JdkReleaseRenderer.BY_DISTRIBUTION_AND_VERSION);
+    }
+
+    private <T> T lookup(Function<Services, T> query) {
+        lock.lock();
+        try {
+            String stamp = stamp();
+
+            if (services == null || !stamp.equals(loadedStamp)) {
+                services = loader.get();
+                loadedStamp = stamp;
+            }
+
+            return query.apply(services);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String stamp() {
+        String env;
+        try {
+            env = Files.getLastModifiedTime(envStamp).toString();
+        } catch (IOException e) {
+            env = "none";
+        }
+
+        return env + "|" + CatalogIndex.stamp(catalog);
+    }
+
+    private static Path directory(String[] parts) {
+        if (parts.length < 2 || parts[1].isBlank()) {
+            throw new IllegalArgumentException("Missing working directory in daemon request: " + parts[0]);
+        }
+
+        return Path.of(parts[1]);
+    }
+
+    private record Env(Optional<String> javaHome, Optional<Path> config) { }
+
+    /**
+     * What the daemon answers requests from, created anew when it has to be reloaded.
+     */
+    public record Services(EnvResolver envResolver, Supplier<JdkReleaseService> jdkReleaseService,
+                           CatalogLookup catalogLookup) { }
+}
@@ -0,0 +1,121 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Accepts connections on a Unix domain socket and serves each one on its own virtual thread, so any number of
+ * terminals can query the daemon concurrently.
+ * <p>
+ * The buffers of a connection are pooled and reused by later ones. Once the {@link HeapBudget} is used up, the
+ * server stops accepting connections and returns after the ones in flight are served.
+ */
+@RequiredArgsConstructor
+public class DaemonServer {
+    private static final int MAX_REQUEST_LENGTH = 4096;
+
+    private final Path socket;
+    private final DaemonRequestHandler handler;
+    private final HeapBudget heapBudget;
+    private final Queue<ConnectionBuffers> idleBuffers = new ConcurrentLinkedQueue<>();
+
+    public void serve() {
+        claimSocket();
+
+        Thread cleanup = new Thread(this::releaseSocket);
+        Runtime.getRuntime().addShutdownHook(cleanup);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            server.bind(UnixDomainSocketAddress.of(socket));
+            restrictToOwner();
+
+            while (!heapBudget.isExhausted()) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (ClosedChannelException e) {
+                    // closed by a connection that used up the heap budget
+                    break;
+                }
+                executor.execute(() -> serve(server, client));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            releaseSocket();
+        }
+    }
+
+    private void serve(ServerSocketChannel server, SocketChannel client) {
+        ConnectionBuffers buffers = Objects.requireNonNullElseGet(idleBuffers.poll(), ConnectionBuffers::new);
+
+        try (client) {
+            handler.handle(buffers.readRequest(client, MAX_REQUEST_LENGTH), buffers.responseTo(client));
+
+            if (buffers.finish()) {
+                idleBuffers.offer(buffers);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the client treats a closed connection without output like the binary without output,
+            // the buffers are dropped since they may still hold part of the response
+        }
+
+        if (heapBudget.isExhausted()) {
+            close(server);
+        }
+    }
+
+    private static void close(ServerSocketChannel server) {
+        try {
+            server.close();
+        } catch (IOException e) {
+            // the accept loop ends either way
+        }
+    }
+
+    private void claimSocket() {
+        if (!Files.exists(socket)) {
+            return;
+        }
+
+        try (SocketChannel ignored = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            throw new DaemonAlreadyRunningException(socket);
+        } catch (IOException e) {
+            // nobody is listening, the socket file is left over from a daemon that did not shut down cleanly
+            releaseSocket();
+        }
+    }
+
+    private void restrictToOwner() throws IOException {
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system, rely on the permissions of the parent directory
+        }
+    }
+
+    private void releaseSocket() {
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            // a stale socket is detected and replaced on the next start
+        }
+    }
+}
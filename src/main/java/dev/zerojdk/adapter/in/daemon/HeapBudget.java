@@ -0,0 +1,49 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import dev.zerojdk.adapter.in.cli.bootstrap.EnvironmentValues;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the heap the daemon may use. The native image runs with the epsilon GC, which never reclaims memory, so
+ * every request leaves its garbage behind and a daemon serving requests indefinitely would run out of heap. Once
+ * the budget is used up, the daemon stops and the shell hooks fall back to running zjdk until it is restarted.
+ * <p>
+ * The budget is read from {@code ZJDK_DAEMON_HEAP_BUDGET} as a size, see {@link EnvironmentValues}. It defaults to
+ * 256 MiB, but at most three quarters of the maximum heap, which leaves room for the request that crosses the budget
+ * to still be answered. The daemon states its budget when it starts listening and reports on standard error when it
+ * stops because the budget is used up.
+ */
+public class HeapBudget {
+    public static final String BUDGET_VARIABLE = "ZJDK_DAEMON_HEAP_BUDGET";
+
+    static final long DEFAULT_BUDGET = 256L * 1024 * 1024;
+
+    private final long budget;
+    private final LongSupplier usedHeap;
+
+    HeapBudget(long budget, LongSupplier usedHeap) {
+        this.budget = budget;
+        this.usedHeap = usedHeap;
+    }
+
+    public static HeapBudget fromEnvironment() {
+        return from(System.getenv(), Runtime.getRuntime());
+    }
+
+    static HeapBudget from(Map<String, String> env, Runtime runtime) {
+        long defaultBudget = Math.min(DEFAULT_BUDGET, runtime.maxMemory() / 4 * 3);
+
+        return new HeapBudget(EnvironmentValues.size(BUDGET_VARIABLE, env.get(BUDGET_VARIABLE), defaultBudget),
+            () -> runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    public long budget() {
+        return budget;
+    }
+
+    public boolean isExhausted() {
+        return usedHeap.getAsLong() >= budget;
+    }
+}
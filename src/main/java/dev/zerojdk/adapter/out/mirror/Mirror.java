@@ -0,0 +1,121 @@
+package dev.zerojdk.adapter.out.mirror;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A mirror of the catalog and the JDK archives, e.g. a directory populated by 'zjdk mirror populate' and served by
+ * any static HTTP server on the local network.
+ * <p>
+ * Each origin URL maps to {@code <base>/<host>/<path>}, so
+ * {@code https://github.com/adoptium/temurin21-binaries/releases/download/x/OpenJDK21.tar.gz} is fetched from
+ * {@code <base>/github.com/adoptium/temurin21-binaries/releases/download/x/OpenJDK21.tar.gz}. The same layout is used
+ * on disk, which keeps a populated directory self-describing and lets several catalogs share one mirror. Files are
+ * stored under their decoded path, e.g. {@code jdk-21.0.1+12} for {@code jdk-21.0.1%2B12}, since that is the name a
+ * static HTTP server looks up for the encoded request.
+ */
+public class Mirror {
+    public static final String MIRROR_VARIABLE = "ZJDK_MIRROR";
+
+    private final URI base;
+
+    public Mirror(URI base) {
+        this.base = base.getPath().endsWith("/")
+            ? base
+            : URI.create(base + "/");
+    }
+
+    public static Optional<Mirror> fromEnvironment() {
+        String value = System.getenv(MIRROR_VARIABLE);
+
+        return value == null || value.isBlank()
+            ? Optional.empty()
+            : Optional.of(new Mirror(URI.create(value.trim())));
+    }
+
+    /**
+     * @return the location of {@code origin} on the mirror
+     */
+    public URI resolve(URI origin) {
+        return base.resolve(relativePath(origin, origin.getRawPath()));
+    }
+
+    /**
+     * @return the location of {@code origin} below a mirror directory
+     */
+    public static Path pathIn(Path root, URI origin) {
+        Path path = root.resolve(relativePath(origin, origin.getPath())).normalize();
+
+        if (!path.startsWith(root.normalize())) {
+            throw new IllegalArgumentException("Refusing to mirror " + origin + " outside of " + root);
+        }
+
+        return path;
+    }
+
+    private static String relativePath(URI origin, String path) {
+        if (path == null || path.isEmpty()) {
+            path = "/index";
+        }
+
+        return origin.getHost().toLowerCase(Locale.ROOT) + path;
+    }
+
+    /**
+     * Wraps a port so that every HTTP(S) location passed to it, as a {@link String}, {@link URI} or {@link URL}, is
+     * redirected to the mirror. Works for any port whose methods take their target location as an argument, without
+     * depending on the exact signatures.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T redirecting(Class<T> port, T target) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[] { port }, (proxy, method, args) -> {
+            try {
+                return method.invoke(target, args == null ? null : redirect(args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private Object[] redirect(Object[] args) throws MalformedURLException {
+        Object[] redirected = args.clone();
+
+        for (int i = 0; i < redirected.length; i++) {
+            switch (redirected[i]) {
+                case URI uri when isRemote(uri) -> redirected[i] = resolve(uri);
+                case URL url when isRemote(url.toString()) -> redirected[i] = resolve(URI.create(url.toString())).toURL();
+                case String location when isRemote(location) -> redirected[i] = resolve(URI.create(location)).toString();
+                case null, default -> { }
+            }
+        }
+
+        return redirected;
+    }
+
+    private boolean isRemote(String location) {
+        if (!location.startsWith("http://") && !location.startsWith("https://")) {
+            return false;
+        }
+
+        try {
+            return isRemote(URI.create(location));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // locations already pointing at the mirror are left alone, e.g. redirects followed by the download service
+    private boolean isRemote(URI uri) {
+        String scheme = uri.getScheme();
+
+        return ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))
+            && uri.getHost() != null
+            && !uri.toString().startsWith(base.toString());
+    }
+}
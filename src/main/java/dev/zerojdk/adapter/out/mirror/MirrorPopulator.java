@@ -0,0 +1,124 @@
+package dev.zerojdk.adapter.out.mirror;
+
+import dev.zerojdk.infrastructure.Futures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fetches origin URLs into a mirror directory, laid out as described by {@link Mirror}. Archives already present are
+ * not fetched again, while release documents are, since their location stays the same when a new release is published.
+ * Downloads land in a temporary file first, so agents reading the mirror concurrently never see a partial file.
+ * Redirects are followed and the final content is stored under the location that was requested, so an indirect
+ * download location of the catalog serves the archive itself from the mirror.
+ */
+public class MirrorPopulator {
+    // the catalog release is a GitHub API document, only its asset locations are of interest here
+    private static final Pattern ASSET_URL = Pattern.compile("\"browser_download_url\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final Path root;
+    private final HttpClient httpClient;
+
+    public MirrorPopulator(Path root) {
+        this(root, HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build());
+    }
+
+    MirrorPopulator(Path root, HttpClient httpClient) {
+        this.root = root;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Mirrors a GitHub release document together with all of its assets. The document is always fetched again, its
+     * assets are published under the release tag and only fetched when missing.
+     */
+    public PopulateResult populateRelease(URI release, int parallelism) {
+        Path document = fetch(release, true, new AtomicInteger(), new AtomicLong());
+
+        try {
+            Matcher matcher = ASSET_URL.matcher(Files.readString(document));
+            List<URI> assets = new ArrayList<>();
+
+            while (matcher.find()) {
+                assets.add(URI.create(matcher.group(1)));
+            }
+
+            return populate(assets, parallelism);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Mirrors the given locations, downloading at most {@code parallelism} at a time.
+     */
+    public PopulateResult populate(Collection<URI> origins, int parallelism) {
+        AtomicInteger downloaded = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        List<Future<?>> downloads = new ArrayList<>();
+        LinkedHashSet<URI> distinct = new LinkedHashSet<>(origins);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            distinct.forEach(origin -> downloads.add(executor.submit(() -> fetch(origin, false, downloaded, bytes))));
+        }
+
+        Futures.rethrowFailures(downloads, "mirroring");
+
+        return new PopulateResult(distinct.size(), downloaded.get(), bytes.get());
+    }
+
+    private Path fetch(URI origin, boolean refresh, AtomicInteger downloaded, AtomicLong bytes) {
+        Path target = Mirror.pathIn(root, origin);
+
+        if (!refresh && Files.isRegularFile(target)) {
+            return target;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".part");
+
+            try {
+                HttpResponse<Path> response = httpClient.send(HttpRequest.newBuilder(origin).GET().build(),
+                    HttpResponse.BodyHandlers.ofFile(temp));
+
+                if (response.statusCode() != 200) {
+                    throw new IOException("Unexpected status " + response.statusCode() + " for " + origin);
+                }
+
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                downloaded.incrementAndGet();
+                bytes.addAndGet(Files.size(target));
+
+                return target;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to mirror " + origin, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while mirroring " + origin, e);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package dev.zerojdk.adapter.out.mirror;
+
+public record PopulateResult(long filesRequested, long filesDownloaded, long bytesDownloaded) { }
@@ -0,0 +1,102 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import dev.zerojdk.adapter.out.shell.scripts.BashScript;
+import dev.zerojdk.domain.service.shell.ShellScriptStub;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class BashHook implements ShellHook {
+    @Override
+    public String fileName() {
+        return "zjdk.bash";
+    }
+
+    @Override
+    public Optional<ShellScriptStub> legacyScript() {
+        return Optional.of(new BashScript());
+    }
+
+    @Override
+    public String content(Path zjdkHome) {
+        return """
+            # zjdk shell integration for bash, generated by 'zjdk shell install bash'
+
+            __zjdk_home={{zjdk_home}}
+            __zjdk_stamp="$__zjdk_home/cache/env.stamp"
+            __zjdk_marker="${TMPDIR:-/tmp}/zjdk-hook.$UID.$$"
+            __zjdk_java_home=""
+            __zjdk_config=""
+            __zjdk_fresh=""
+
+            # Finds the configuration governing $PWD with test builtins only, the same way 'zjdk env' does.
+            __zjdk_find_config() {
+              local dir="$PWD"
+              while :; do
+                if [[ -f "$dir/.zjdk/config.properties" ]]; then
+                  __zjdk_found="$dir/.zjdk/config.properties"
+                  return
+                fi
+                [[ -z "$dir" ]] && break
+                dir="${dir%/*}"
+              done
+              __zjdk_found=""
+              [[ -f "$__zjdk_home/config.properties" ]] && __zjdk_found="$__zjdk_home/config.properties"
+            }
+
+            # The last exports still apply while the same configuration governs $PWD, and neither it nor the
+            # installed JDKs changed since zjdk was asked. Checking this does not start a process.
+            __zjdk_is_fresh() {
+              local __zjdk_found
+              [[ -n "$__zjdk_fresh" && -e "$__zjdk_marker" ]] || return 1
+              __zjdk_find_config
+
+              if [[ -n "$__zjdk_found" || -n "$__zjdk_config" ]]; then
+                [[ "$__zjdk_found" -ef "$__zjdk_config" ]] || return 1
+                [[ "$__zjdk_found" -nt "$__zjdk_marker" ]] && return 1
+              fi
+              [[ "$__zjdk_stamp" -nt "$__zjdk_marker" ]] && return 1
+              return 0
+            }
+
+            # bash cannot open a Unix socket itself, and forking a subshell and nc to ask a 'zjdk daemon' costs about
+            # as much as starting zjdk, so the daemon is not used here.
+            __zjdk_env() {
+              __zjdk_out="$(command zjdk env --emit-cache-key 2>/dev/null)"
+            }
+
+            __zjdk_apply() {
+              __zjdk_is_fresh && return
+
+              local __zjdk_out
+              # marks the time zjdk was asked, changes made while it runs are picked up on the next prompt
+              : 2>/dev/null >| "$__zjdk_marker"
+              __zjdk_env
+
+              if [[ -n "$__zjdk_java_home" ]]; then
+                PATH="${PATH//"$__zjdk_java_home/bin:"/}"
+              fi
+
+              if [[ "$__zjdk_out" == *"# zjdk-cache-key "* ]]; then
+                __zjdk_config="${__zjdk_out##*# zjdk-cache-key }"
+                __zjdk_config="${__zjdk_config%%$'\\n'*}"
+                __zjdk_fresh=1
+              else
+                __zjdk_fresh=""
+              fi
+
+              if [[ "$__zjdk_out" == *"export JAVA_HOME="* ]]; then
+                eval "$__zjdk_out"
+                __zjdk_java_home="$JAVA_HOME"
+              elif [[ -n "$__zjdk_java_home" ]]; then
+                unset JAVA_HOME
+                __zjdk_java_home=""
+              fi
+            }
+
+            if [[ ";${PROMPT_COMMAND:-};" != *";__zjdk_apply;"* ]]; then
+              PROMPT_COMMAND="__zjdk_apply${PROMPT_COMMAND:+;$PROMPT_COMMAND}"
+            fi
+            """.replace("{{zjdk_home}}", ShellQuoting.posix(zjdkHome));
+    }
+}
@@ -0,0 +1,83 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import java.nio.file.Path;
+
+public class FishHook implements ShellHook {
+    @Override
+    public String fileName() {
+        return "zjdk.fish";
+    }
+
+    @Override
+    public String content(Path zjdkHome) {
+        return """
+            # zjdk shell integration for fish, generated by 'zjdk shell install fish'
+
+            set -g __zjdk_home {{zjdk_home}}
+            set -g __zjdk_stamp $__zjdk_home/cache/env.stamp
+            set -g __zjdk_java_home ""
+            set -g __zjdk_key ""
+
+            # Finds the configuration governing $PWD with builtins only, the same way 'zjdk env' does.
+            function __zjdk_find_config
+                set -l dir $PWD
+                while true
+                    if test -f $dir/.zjdk/config.properties
+                        echo $dir/.zjdk/config.properties
+                        return
+                    end
+                    test "$dir" = /; and break
+                    set dir (path dirname $dir)
+                end
+                test -f $__zjdk_home/config.properties; and echo $__zjdk_home/config.properties
+            end
+
+            # Identifies the governing configuration and the state of the installed JDKs. The last exports still
+            # apply while the key is unchanged, computing it does not start a process.
+            function __zjdk_key
+                set -l config (__zjdk_find_config)
+                set -l resolved (test -n "$config"; and path resolve $config)
+                set -l modified (test -n "$config"; and path mtime $config)
+                set -l stamp (path mtime $__zjdk_stamp 2>/dev/null)
+                echo "$resolved|$modified|$stamp"
+            end
+
+            # fish cannot open a Unix socket itself, and asking a 'zjdk daemon' through nc costs about as much as
+            # starting zjdk, so the daemon is not used here. The key above already skips zjdk on most prompts.
+            function __zjdk_env
+                command zjdk env --emit-cache-key 2>/dev/null
+            end
+
+            function __zjdk_apply --on-event fish_prompt
+                set -l key (__zjdk_key)
+                test -n "$__zjdk_key"; and test "$key" = "$__zjdk_key"; and return
+
+                set -l out (__zjdk_env)
+
+                if test -n "$__zjdk_java_home"
+                    set -l bin (contains -i -- $__zjdk_java_home/bin $PATH)
+                    and set -e PATH[$bin]
+                end
+
+                # the key only counts if zjdk resolved the configuration the shell found
+                set -l config (string replace -rf '^# zjdk-cache-key (.*)$' '$1' -- $out)
+                set -l found (__zjdk_find_config)
+                if test "$config" = "$found"; or begin; test -n "$config"; and test -n "$found"; and test (path resolve $config) = (path resolve $found); end
+                    set -g __zjdk_key $key
+                else
+                    set -g __zjdk_key ""
+                end
+
+                set -l java_home (string replace -rf '^export JAVA_HOME="(.*)"$' '$1' -- $out)
+                if test -n "$java_home"
+                    set -gx JAVA_HOME $java_home
+                    set -gx PATH $java_home/bin $PATH
+                    set -g __zjdk_java_home $java_home
+                else if test -n "$__zjdk_java_home"
+                    set -e JAVA_HOME
+                    set -g __zjdk_java_home ""
+                end
+            end
+            """.replace("{{zjdk_home}}", ShellQuoting.fish(zjdkHome));
+    }
+}
@@ -0,0 +1,101 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import java.nio.file.Path;
+
+public class NuHook implements ShellHook {
+    @Override
+    public String fileName() {
+        return "zjdk.nu";
+    }
+
+    @Override
+    public String content(Path zjdkHome) {
+        return """
+            # zjdk shell integration for nushell, generated by 'zjdk shell install nu'
+
+            $env.__ZJDK_HOME = {{zjdk_home}}
+            $env.__ZJDK_JAVA_HOME = ""
+            $env.__ZJDK_KEY = ""
+
+            # Finds the configuration governing $env.PWD with builtins only, the same way 'zjdk env' does.
+            def __zjdk_find_config [] {
+                mut dir = $env.PWD
+                loop {
+                    let candidate = ($dir | path join ".zjdk" "config.properties")
+                    if ($candidate | path exists) and (($candidate | path type) == "file") {
+                        return $candidate
+                    }
+                    let parent = ($dir | path dirname)
+                    if $parent == $dir {
+                        break
+                    }
+                    $dir = $parent
+                }
+                let global_config = ($env.__ZJDK_HOME | path join "config.properties")
+                if ($global_config | path exists) { $global_config } else { "" }
+            }
+
+            def __zjdk_modified [file: string] {
+                if ($file != "") and ($file | path exists) {
+                    ls -D $file | get 0.modified | into int | into string
+                } else {
+                    ""
+                }
+            }
+
+            # Identifies the governing configuration and the state of the installed JDKs. The last exports still
+            # apply while the key is unchanged, computing it does not start a process.
+            def __zjdk_key [] {
+                let config = (__zjdk_find_config)
+                let stamp = ($env.__ZJDK_HOME | path join "cache" "env.stamp")
+                $"($config)|(__zjdk_modified $config)|(__zjdk_modified $stamp)"
+            }
+
+            # nushell cannot open a Unix socket itself, and asking a 'zjdk daemon' through nc costs about as much as
+            # starting zjdk, so the daemon is not used here. The key above already skips zjdk on most prompts.
+            def __zjdk_env [] {
+                do { ^zjdk env --emit-cache-key } | complete | get stdout
+            }
+
+            def --env __zjdk_apply [] {
+                let key = (__zjdk_key)
+                if ($env.__ZJDK_KEY != "") and ($key == $env.__ZJDK_KEY) {
+                    return
+                }
+
+                let out = (__zjdk_env | lines)
+
+                if $env.__ZJDK_JAVA_HOME != "" {
+                    let bin = ($env.__ZJDK_JAVA_HOME | path join "bin")
+                    $env.PATH = ($env.PATH | where $it != $bin)
+                }
+
+                # the key only counts if zjdk resolved the configuration the shell found. zjdk reports its physical
+                # location while $env.PWD is the logical one, so symbolic links are resolved on both sides.
+                let keys = ($out | where ($it | str starts-with "# zjdk-cache-key "))
+                let config = if ($keys | is-empty) { null } else { $keys | first | str replace "# zjdk-cache-key " "" }
+                let found = ($key | split row "|" | first)
+                let same = ($config != null) and (($config == $found)
+                    or (($config != "") and ($found != "") and (($config | path expand) == ($found | path expand))))
+                $env.__ZJDK_KEY = if $same { $key } else { "" }
+
+                let homes = ($out
+                    | where ($it | str starts-with 'export JAVA_HOME="')
+                    | each { |line| $line | str replace --regex '^export JAVA_HOME="(.*)"$' '$1' })
+
+                if ($homes | is-not-empty) {
+                    let java_home = ($homes | first)
+                    $env.JAVA_HOME = $java_home
+                    $env.PATH = ($env.PATH | prepend ($java_home | path join "bin"))
+                    $env.__ZJDK_JAVA_HOME = $java_home
+                } else if $env.__ZJDK_JAVA_HOME != "" {
+                    hide-env -i JAVA_HOME
+                    $env.__ZJDK_HOME = {{zjdk_home}}
+            $env.__ZJDK_JAVA_HOME = ""
+                }
+            }
+
+            $env.config.hooks.pre_prompt = ($env.config.hooks.pre_prompt? | default [] | append {|| __zjdk_apply })
+            """.replace("{{zjdk_home}}", ShellQuoting.nu(zjdkHome));
+    }
+}
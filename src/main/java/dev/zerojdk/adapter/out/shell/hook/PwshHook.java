@@ -0,0 +1,117 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import java.nio.file.Path;
+
+public class PwshHook implements ShellHook {
+    @Override
+    public String fileName() {
+        return "zjdk.ps1";
+    }
+
+    @Override
+    public String content(Path zjdkHome) {
+        return """
+            # zjdk shell integration for PowerShell, generated by 'zjdk shell install pwsh'
+
+            $global:__zjdkHome = {{zjdk_home}}
+            $global:__zjdkSocket = if ($env:ZJDK_DAEMON_SOCKET) { $env:ZJDK_DAEMON_SOCKET } else { [IO.Path]::Combine($global:__zjdkHome, 'daemon.sock') }
+            $global:__zjdkStamp = [IO.Path]::Combine($global:__zjdkHome, 'cache', 'env.stamp')
+            $global:__zjdkJavaHome = ''
+            $global:__zjdkKey = ''
+
+            # Finds the configuration governing the current directory in-process, the same way 'zjdk env' does.
+            function global:__zjdkFindConfig {
+                $dir = (Get-Location).ProviderPath
+                while ($dir) {
+                    $candidate = [IO.Path]::Combine($dir, '.zjdk', 'config.properties')
+                    if ([IO.File]::Exists($candidate)) { return $candidate }
+                    $dir = [IO.Path]::GetDirectoryName($dir)
+                }
+                $globalConfig = [IO.Path]::Combine($global:__zjdkHome, 'config.properties')
+                if ([IO.File]::Exists($globalConfig)) { return $globalConfig }
+                return ''
+            }
+
+            # Resolves symbolic links in every component of a path, zjdk reports the physical location of a configuration.
+            function global:__zjdkRealPath([string] $path) {
+                $path = [IO.Path]::GetFullPath($path)
+                $resolved = [IO.Path]::GetPathRoot($path)
+                foreach ($part in [IO.Path]::GetRelativePath($resolved, $path).Split([IO.Path]::DirectorySeparatorChar, [StringSplitOptions]::RemoveEmptyEntries)) {
+                    $resolved = [IO.Path]::Combine($resolved, $part)
+                    $item = Get-Item -LiteralPath $resolved -Force -ErrorAction SilentlyContinue
+                    if ($item -and $item.LinkTarget) {
+                        $resolved = __zjdkRealPath $item.ResolveLinkTarget($true).FullName
+                    }
+                }
+                return $resolved
+            }
+
+            # Identifies the governing configuration and the state of the installed JDKs. The last exports still
+            # apply while the key is unchanged, computing it does not start a process.
+            function global:__zjdkKey {
+                $config = __zjdkFindConfig
+                $modified = if ($config) { [IO.File]::GetLastWriteTimeUtc($config).Ticks } else { '' }
+                $stamp = if ([IO.File]::Exists($global:__zjdkStamp)) { [IO.File]::GetLastWriteTimeUtc($global:__zjdkStamp).Ticks } else { '' }
+                return "$config|$modified|$stamp"
+            }
+
+            # Asks a running 'zjdk daemon' over its socket without starting a process, and falls back to the zjdk binary.
+            function global:__zjdkEnv {
+                if (Test-Path -LiteralPath $global:__zjdkSocket) {
+                    try {
+                        $socket = [Net.Sockets.Socket]::new([Net.Sockets.AddressFamily]::Unix, [Net.Sockets.SocketType]::Stream, [Net.Sockets.ProtocolType]::Unspecified)
+                        $socket.Connect([Net.Sockets.UnixDomainSocketEndPoint]::new($global:__zjdkSocket))
+                        $stream = [Net.Sockets.NetworkStream]::new($socket, $true)
+                        try {
+                            $writer = [IO.StreamWriter]::new($stream)
+                            $writer.Write("env-key`t$((Get-Location).ProviderPath)`n")
+                            $writer.Flush()
+                            return [IO.StreamReader]::new($stream).ReadToEnd() -split "`n"
+                        } finally {
+                            $stream.Dispose()
+                        }
+                    } catch {
+                        # no daemon listening, ask the binary
+                    }
+                }
+                return & zjdk env --emit-cache-key 2>$null
+            }
+
+            function global:__zjdkApply {
+                $key = __zjdkKey
+                if ($global:__zjdkKey -and $key -eq $global:__zjdkKey) { return }
+
+                $out = @(__zjdkEnv)
+
+                if ($global:__zjdkJavaHome) {
+                    $bin = [IO.Path]::Combine($global:__zjdkJavaHome, 'bin')
+                    $env:PATH = (($env:PATH -split [IO.Path]::PathSeparator) | Where-Object { $_ -ne $bin }) -join [IO.Path]::PathSeparator
+                }
+
+                # the key only counts if zjdk resolved the configuration the shell found, wherever links lead either path
+                $config = $out | ForEach-Object { if ($_ -match '^# zjdk-cache-key (.*)$') { $Matches[1] } } | Select-Object -First 1
+                $found = ($key -split '\\|')[0]
+                $same = $null -ne $config -and ($config -eq $found -or ($config -and $found -and (__zjdkRealPath $config) -eq (__zjdkRealPath $found)))
+                $global:__zjdkKey = if ($same) { $key } else { '' }
+
+                $javaHome = $out | ForEach-Object { if ($_ -match '^export JAVA_HOME="(.*)"$') { $Matches[1] } } | Select-Object -First 1
+                if ($javaHome) {
+                    $env:JAVA_HOME = $javaHome
+                    $env:PATH = [IO.Path]::Combine($javaHome, 'bin') + [IO.Path]::PathSeparator + $env:PATH
+                    $global:__zjdkJavaHome = $javaHome
+                } elseif ($global:__zjdkJavaHome) {
+                    Remove-Item Env:JAVA_HOME -ErrorAction SilentlyContinue
+                    $global:__zjdkJavaHome = ''
+                }
+            }
+
+            if (-not $global:__zjdkPrompt) {
+                $global:__zjdkPrompt = $function:prompt
+                function global:prompt {
+                    __zjdkApply
+                    & $global:__zjdkPrompt
+                }
+            }
+            """.replace("{{zjdk_home}}", ShellQuoting.pwsh(zjdkHome));
+    }
+}
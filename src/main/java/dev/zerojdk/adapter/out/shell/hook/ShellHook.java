@@ -0,0 +1,33 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import dev.zerojdk.domain.service.shell.ShellScriptStub;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A shell integration script that keeps JAVA_HOME and PATH in sync with the governing zjdk configuration.
+ */
+public interface ShellHook {
+    String fileName();
+
+    /**
+     * @param zjdkHome the base directory, which holds the global configuration, the daemon socket and the env stamp
+     */
+    String content(Path zjdkHome);
+
+    /**
+     * The command that precompiles the written script, for shells that support it.
+     */
+    default Optional<List<String>> compileCommand(Path script) {
+        return Optional.empty();
+    }
+
+    /**
+     * The script core installed for this shell before, whose location existing setups may still source.
+     */
+    default Optional<ShellScriptStub> legacyScript() {
+        return Optional.empty();
+    }
+}
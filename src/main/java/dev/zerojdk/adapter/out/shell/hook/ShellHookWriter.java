@@ -0,0 +1,88 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import dev.zerojdk.domain.service.shell.ShellExtensionWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class ShellHookWriter {
+    private static final long COMPILE_TIMEOUT_SECONDS = 10;
+
+    private static final String FORWARDER = """
+        # zjdk's shell integration moved to %s
+        # This file only forwards to it, so existing 'source' lines keep working.
+        [ -f "%s" ] && source "%s"
+        """;
+
+    private final Path zjdkHome;
+    private final Path directory;
+    private final Supplier<ShellExtensionWriter> legacyWriter;
+
+    public ShellHookWriter(Path zjdkHome) {
+        this(zjdkHome, null);
+    }
+
+    /**
+     * @param zjdkHome the base directory, the scripts are written to its 'shell' directory and refer to it
+     * @param legacyWriter core's writer, which installed the bash and zsh scripts before, or {@code null} to leave
+     *                     those locations alone
+     */
+    public ShellHookWriter(Path zjdkHome, Supplier<ShellExtensionWriter> legacyWriter) {
+        this.zjdkHome = zjdkHome;
+        this.directory = zjdkHome.resolve("shell");
+        this.legacyWriter = legacyWriter;
+    }
+
+    public Path write(ShellHook hook) {
+        try {
+            Files.createDirectories(directory);
+
+            Path script = Files.writeString(directory.resolve(hook.fileName()), hook.content(zjdkHome));
+            hook.compileCommand(script).ifPresent(ShellHookWriter::compile);
+
+            if (legacyWriter != null) {
+                hook.legacyScript().ifPresent(legacy -> forward(legacyWriter.get().write(legacy), script));
+            }
+
+            return script;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // core's writer only reveals where it installs a script by installing it, the script is replaced right away
+    private static void forward(Path legacy, Path script) {
+        if (legacy == null || legacy.toAbsolutePath().equals(script.toAbsolutePath())) {
+            return;
+        }
+
+        try {
+            Files.writeString(legacy, FORWARDER.formatted(script, script, script));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // precompiling is an optimization only, the shell falls back to the script if it is missing or failed
+    private static void compile(List<String> command) {
+        try {
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+            if (!process.waitFor(COMPILE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (IOException e) {
+            // shell not installed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import java.nio.file.Path;
+
+/**
+ * Quotes paths as string literals of the shells the hooks are written for, so they can be embedded in a script as is.
+ */
+final class ShellQuoting {
+    private ShellQuoting() {
+    }
+
+    static String posix(Path path) {
+        return "'" + path.toString().replace("'", "'\\''") + "'";
+    }
+
+    static String fish(Path path) {
+        return "'" + path.toString().replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    static String pwsh(Path path) {
+        return "'" + path.toString().replace("'", "''") + "'";
+    }
+
+    // raw strings take everything up to the closing delimiter literally
+    static String nu(Path path) {
+        return "r#'" + path + "'#";
+    }
+}
@@ -0,0 +1,123 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import dev.zerojdk.adapter.out.shell.scripts.ZshScript;
+import dev.zerojdk.domain.service.shell.ShellScriptStub;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public class ZshHook implements ShellHook {
+    @Override
+    public String fileName() {
+        return "zjdk.zsh";
+    }
+
+    @Override
+    public Optional<ShellScriptStub> legacyScript() {
+        return Optional.of(new ZshScript());
+    }
+
+    /**
+     * Compiles the script to {@code zjdk.zsh.zwc}, which zsh loads instead of parsing the script as long as it is
+     * newer than the script.
+     */
+    @Override
+    public Optional<List<String>> compileCommand(Path script) {
+        return Optional.of(List.of("zsh", "-f", "-c", "zcompile -U -- \"$1\"", "zsh", script.toString()));
+    }
+
+    @Override
+    public String content(Path zjdkHome) {
+        return """
+            # zjdk shell integration for zsh, generated by 'zjdk shell install zsh'
+
+            typeset -g __zjdk_home={{zjdk_home}}
+            typeset -g __zjdk_socket="${ZJDK_DAEMON_SOCKET:-$__zjdk_home/daemon.sock}"
+            typeset -g __zjdk_stamp="$__zjdk_home/cache/env.stamp"
+            typeset -g __zjdk_marker="${TMPDIR:-/tmp}/zjdk-hook.$UID.$$"
+            typeset -g __zjdk_java_home=""
+            typeset -g __zjdk_config=""
+            typeset -g __zjdk_fresh=""
+            zmodload -F zsh/net/socket b:zsocket 2>/dev/null
+
+            # Finds the configuration governing $PWD with test builtins only, the same way 'zjdk env' does.
+            __zjdk_find_config() {
+              local dir=$PWD
+              while :; do
+                if [[ -f $dir/.zjdk/config.properties ]]; then
+                  __zjdk_found=$dir/.zjdk/config.properties
+                  return
+                fi
+                [[ -z $dir ]] && break
+                dir=${dir%/*}
+              done
+              __zjdk_found=""
+              [[ -f $__zjdk_home/config.properties ]] && __zjdk_found=$__zjdk_home/config.properties
+            }
+
+            # The last exports still apply while the same configuration governs $PWD, and neither it nor the
+            # installed JDKs changed since zjdk was asked. Checking this does not start a process.
+            __zjdk_is_fresh() {
+              local __zjdk_found
+              [[ -n $__zjdk_fresh && -e $__zjdk_marker ]] || return 1
+              __zjdk_find_config
+
+              if [[ -n $__zjdk_found || -n $__zjdk_config ]]; then
+                [[ $__zjdk_found -ef $__zjdk_config ]] || return 1
+                [[ $__zjdk_found -nt $__zjdk_marker ]] && return 1
+              fi
+              [[ $__zjdk_stamp -nt $__zjdk_marker ]] && return 1
+              return 0
+            }
+
+            # Asks a running 'zjdk daemon' through the zsocket builtin, which does not spawn a process, and falls
+            # back to the zjdk binary.
+            __zjdk_env() {
+              if [[ -S $__zjdk_socket ]] && (( $+builtins[zsocket] )) && zsocket $__zjdk_socket 2>/dev/null; then
+                local fd=$REPLY line
+                __zjdk_out=""
+                print -r -u $fd -- "env-key"$'\\t'"$PWD"
+                while IFS= read -r -u $fd line || [[ -n $line ]]; do
+                  __zjdk_out+="$line"$'\\n'
+                done
+                exec {fd}>&-
+                return
+              fi
+              __zjdk_out="$(command zjdk env --emit-cache-key 2>/dev/null)"
+            }
+
+            __zjdk_apply() {
+              __zjdk_is_fresh && return
+
+              local __zjdk_out
+              # marks the time zjdk was asked, changes made while it runs are picked up on the next prompt
+              : 2>/dev/null >| $__zjdk_marker
+              __zjdk_env
+
+              if [[ -n $__zjdk_java_home ]]; then
+                path=(${path:#$__zjdk_java_home/bin})
+              fi
+
+              if [[ $__zjdk_out == *"# zjdk-cache-key "* ]]; then
+                __zjdk_config=${__zjdk_out##*\\# zjdk-cache-key }
+                __zjdk_config=${__zjdk_config%%$'\\n'*}
+                __zjdk_fresh=1
+              else
+                __zjdk_fresh=""
+              fi
+
+              if [[ $__zjdk_out == *"export JAVA_HOME="* ]]; then
+                eval "$__zjdk_out"
+                __zjdk_java_home=$JAVA_HOME
+              elif [[ -n $__zjdk_java_home ]]; then
+                unset JAVA_HOME
+                __zjdk_java_home=""
+              fi
+            }
+
+            autoload -Uz add-zsh-hook
+            add-zsh-hook precmd __zjdk_apply
+            """.replace("{{zjdk_home}}", ShellQuoting.posix(zjdkHome));
+    }
+}
@@ -0,0 +1,243 @@
+package dev.zerojdk.adapter.out.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps one blob per distinct file content and lets installed JDKs share it through hard links.
+ * <p>
+ * Blobs are keyed by the SHA-256 of the content plus the POSIX permissions, because all hard links to a blob share
+ * its permissions. The first occurrence of a file becomes the blob itself, so building the store never copies data.
+ * Files that already are a blob of the store are recognized by their file key and not hashed again.
+ * <p>
+ * Files a JDK expects to be modified in place, such as the {@code cacerts} trust store changed by {@code keytool}
+ * or the configuration below {@code conf}, are never shared. A change to one of them would otherwise reach every
+ * JDK linked to the same blob.
+ * <p>
+ * Instances are not thread-safe, they reuse a single read buffer.
+ */
+public class ContentAddressedStore {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // relative to a JAVA_HOME, the JDK 8 layout keeps the trust store below 'jre'
+    private static final List<Path> MUTABLE = List.of(
+        Path.of("conf"),
+        Path.of("lib", "security", "cacerts"),
+        Path.of("jre", "lib", "security", "cacerts"));
+
+    private final Path root;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final MessageDigest digest;
+
+    public ContentAddressedStore(Path root) {
+        this.root = root;
+
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Replaces every file below the given JAVA_HOME trees that has an identical blob in the store with a hard link
+     * to it.
+     */
+    public DeduplicationResult deduplicate(List<Path> trees) {
+        long[] counters = new long[3];
+        Set<Object> stored = storedFileKeys();
+
+        for (Path tree : trees) {
+            try {
+                Files.walkFileTree(tree, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        return isMutable(tree.relativize(dir))
+                            ? FileVisitResult.SKIP_SUBTREE
+                            : FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        if (!attrs.isRegularFile() || attrs.size() == 0 || isMutable(tree.relativize(file))) {
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        counters[0]++;
+
+                        if (attrs.fileKey() != null && stored.contains(attrs.fileKey())) {
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        if (share(file, attrs, stored)) {
+                            counters[1]++;
+                            counters[2] += attrs.size();
+                        }
+
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return new DeduplicationResult(counters[0], counters[1], counters[2]);
+    }
+
+    /**
+     * Removes blobs that are no longer linked from any installation, and the directories left empty.
+     *
+     * @return the number of removed blobs
+     */
+    public int prune() {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+
+        int[] removed = new int[1];
+
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path blob, BasicFileAttributes attrs) throws IOException {
+                    if (((Number) Files.getAttribute(blob, "unix:nlink")).intValue() == 1) {
+                        Files.delete(blob);
+                        removed[0]++;
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    if (e != null) {
+                        throw e;
+                    }
+
+                    if (!dir.equals(root) && isEmpty(dir)) {
+                        Files.delete(dir);
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            // link counts are not available on this file system, keep every blob
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return removed[0];
+    }
+
+    private boolean share(Path file, BasicFileAttributes attrs, Set<Object> stored) throws IOException {
+        Path blob = blobOf(file);
+
+        try {
+            if (Files.notExists(blob)) {
+                Files.createDirectories(blob.getParent());
+                Files.createLink(blob, file);
+
+                if (attrs.fileKey() != null) {
+                    stored.add(attrs.fileKey());
+                }
+                return false;
+            }
+
+            if (Files.isSameFile(blob, file)) {
+                return false;
+            }
+
+            // link next to the file first, so the file is replaced atomically and never missing
+            Path link = file.resolveSibling(file.getFileName() + ".zjdk-link");
+            Files.deleteIfExists(link);
+            Files.createLink(link, blob);
+            Files.move(link, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        } catch (FileSystemException e) {
+            // e.g. the store is on a different file system, the file stays a private copy
+            return false;
+        }
+    }
+
+    private Set<Object> storedFileKeys() {
+        Set<Object> keys = new HashSet<>();
+
+        if (!Files.isDirectory(root)) {
+            return keys;
+        }
+
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path blob, BasicFileAttributes attrs) {
+                    if (attrs.fileKey() != null) {
+                        keys.add(attrs.fileKey());
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return keys;
+    }
+
+    private static boolean isMutable(Path relative) {
+        return MUTABLE.stream().anyMatch(relative::startsWith);
+    }
+
+    private static boolean isEmpty(Path dir) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            return !entries.iterator().hasNext();
+        }
+    }
+
+    private Path blobOf(Path file) throws IOException {
+        String hash = hash(file);
+        String name = hash + permissionsOf(file);
+
+        return root.resolve(hash.substring(0, 2)).resolve(name);
+    }
+
+    private String hash(Path file) throws IOException {
+        digest.reset();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer.clear()) != -1) {
+                digest.update(buffer.flip());
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String permissionsOf(Path file) throws IOException {
+        try {
+            return "." + PosixFilePermissions.toString(Files.getPosixFilePermissions(file));
+        } catch (UnsupportedOperationException e) {
+            return "";
+        }
+    }
+}
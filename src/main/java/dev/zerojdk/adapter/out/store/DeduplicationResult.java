@@ -0,0 +1,3 @@
+package dev.zerojdk.adapter.out.store;
+
+public record DeduplicationResult(long filesScanned, long filesLinked, long bytesReclaimed) { }
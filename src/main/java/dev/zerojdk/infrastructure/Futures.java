@@ -0,0 +1,42 @@
+package dev.zerojdk.infrastructure;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+public final class Futures {
+    private Futures() {
+    }
+
+    /**
+     * Waits for all tasks and rethrows the first failure, with the failures of the others suppressed.
+     *
+     * @param activity what the tasks do, e.g. 'installing', for the message of an interruption
+     */
+    public static void rethrowFailures(List<Future<?>> tasks, String activity) {
+        RuntimeException failure = null;
+
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(e.getCause());
+
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while " + activity, e);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
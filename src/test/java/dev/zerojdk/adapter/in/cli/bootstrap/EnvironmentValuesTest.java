@@ -0,0 +1,87 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnvironmentValuesTest {
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(5);
+    private static final long DEFAULT_SIZE = 1024;
+
+    @ParameterizedTest
+    @CsvSource({
+        "30, 30",
+        "0, 0",
+        "45s, 45",
+        "2m, 120",
+        "2M, 120",
+        "12h, 43200",
+        "' 1d ', 86400"
+    })
+    void parsesDurations(String value, long seconds) {
+        assertThat(EnvironmentValues.duration("ZJDK_TEST", value, DEFAULT_DURATION))
+            .isEqualTo(Duration.ofSeconds(seconds));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1048576, 1048576",
+        "0, 0",
+        "512k, 524288",
+        "64m, 67108864",
+        "1G, 1073741824"
+    })
+    void parsesSizes(String value, long bytes) {
+        assertThat(EnvironmentValues.size("ZJDK_TEST", value, DEFAULT_SIZE)).isEqualTo(bytes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"soon", "12x", "m", "-5m", "1.5h", "9999999999999999999d"})
+    void fallsBackToTheDefaultDurationWithAWarning(String value) {
+        String warnings = stderrOf(() ->
+            assertThat(EnvironmentValues.duration("ZJDK_TEST", value, DEFAULT_DURATION)).isEqualTo(DEFAULT_DURATION));
+
+        assertThat(warnings).startsWith("Ignoring ZJDK_TEST='" + value + "', expected a duration");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"lots", "12x", "k", "-1", "1.5g", "99999999999g"})
+    void fallsBackToTheDefaultSizeWithAWarning(String value) {
+        String warnings = stderrOf(() ->
+            assertThat(EnvironmentValues.size("ZJDK_TEST", value, DEFAULT_SIZE)).isEqualTo(DEFAULT_SIZE));
+
+        assertThat(warnings).startsWith("Ignoring ZJDK_TEST='" + value + "', expected a size");
+    }
+
+    @Test
+    void fallsBackSilentlyWhenUnset() {
+        String warnings = stderrOf(() -> {
+            assertThat(EnvironmentValues.duration("ZJDK_TEST", null, DEFAULT_DURATION)).isEqualTo(DEFAULT_DURATION);
+            assertThat(EnvironmentValues.size("ZJDK_TEST", " ", DEFAULT_SIZE)).isEqualTo(DEFAULT_SIZE);
+        });
+
+        assertThat(warnings).isEmpty();
+    }
+
+    private static String stderrOf(Runnable action) {
+        PrintStream err = System.err;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(captured, true, StandardCharsets.UTF_8));
+
+        try {
+            action.run();
+        } finally {
+            System.setErr(err);
+        }
+
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.zerojdk.adapter.in.cli.bootstrap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import uk.org.webcompere.systemstubs.jupiter.SystemStub;
+import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
+import uk.org.webcompere.systemstubs.properties.SystemProperties;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SystemStubsExtension.class)
+class ZjdkBootstrapperTest {
+    private static final List<String> NETWORK_AND_ARCHIVE_CLASSES = List.of(
+        "dev.zerojdk.adapter.out.download.HttpDownloadService",
+        "dev.zerojdk.adapter.out.github.client.GitHubReleaseClient",
+        "dev.zerojdk.adapter.out.unarchiver.DetectingUnarchiverFactory",
+        "dev.zerojdk.domain.service.catalog.storage.RemoteCatalogProviderService");
+
+    @SystemStub
+    private SystemProperties systemProperties;
+
+    @TempDir
+    private Path home;
+
+    @Test
+    void envDoesNotLoadDownloadUnarchiverOrGitHubClasses() throws Exception {
+        assertUntouched("jdkConfigService", "jdkReleaseService");
+    }
+
+    @Test
+    void infoDoesNotLoadDownloadUnarchiverOrGitHubClasses() throws Exception {
+        assertUntouched("jdkConfigService", "catalogService");
+    }
+
+    @Test
+    void bootstrapAloneConstructsNoServices() throws Exception {
+        assertUntouched();
+    }
+
+    private void assertUntouched(String... services) throws Exception {
+        systemProperties.set("user.home", home.toString());
+
+        try (IsolatingClassLoader loader = new IsolatingClassLoader()) {
+            Object runtime = loader.loadClass(ZjdkBootstrapper.class.getName())
+                .getMethod("bootstrap")
+                .invoke(null);
+
+            for (String service : services) {
+                Supplier<?> supplier = (Supplier<?>) runtime.getClass().getMethod(service).invoke(runtime);
+                assertThat(supplier.get()).isNotNull();
+            }
+
+            assertThat(NETWORK_AND_ARCHIVE_CLASSES)
+                .noneMatch(loader::isLoaded);
+        }
+    }
+
+    /**
+     * Loads the application from the test class path without delegating to the application class loader, so
+     * classes loaded by other tests in the same JVM do not leak into the assertion.
+     */
+    private static class IsolatingClassLoader extends URLClassLoader {
+        IsolatingClassLoader() throws Exception {
+            super(classPath(), ClassLoader.getPlatformClassLoader());
+        }
+
+        boolean isLoaded(String name) {
+            return findLoadedClass(name) != null;
+        }
+
+        private static URL[] classPath() throws Exception {
+            String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+
+            List<URL> urls = new ArrayList<>();
+            for (String entry : classPath.split(File.pathSeparator)) {
+                urls.add(Path.of(entry).toUri().toURL());
+            }
+
+            return urls.toArray(URL[]::new);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogAutoRefreshTest {
+    @TempDir
+    private Path temp;
+
+    @Test
+    void parsesInterval() {
+        assertThat(CatalogAutoRefresh.intervalFrom(null)).isEqualTo(Duration.ZERO);
+        assertThat(CatalogAutoRefresh.intervalFrom("12h")).isEqualTo(Duration.ofHours(12));
+        assertThat(CatalogAutoRefresh.intervalFrom("30m")).isEqualTo(Duration.ofMinutes(30));
+        assertThat(CatalogAutoRefresh.intervalFrom("0")).isEqualTo(Duration.ZERO);
+        assertThat(CatalogAutoRefresh.intervalFrom("off")).isEqualTo(Duration.ZERO);
+        assertThat(CatalogAutoRefresh.intervalFrom("soon")).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void claimsOncePerInterval() throws IOException {
+        Path stamp = temp.resolve("cache").resolve("catalog.stamp");
+        CatalogAutoRefresh refresh = new CatalogAutoRefresh(stamp, Duration.ofHours(1));
+
+        assertThat(refresh.claim()).isTrue();
+        assertThat(refresh.claim()).isFalse();
+
+        Files.setLastModifiedTime(stamp, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        assertThat(refresh.claim()).isTrue();
+    }
+
+    @Test
+    void neverClaimsWhenDisabled() {
+        CatalogAutoRefresh refresh = new CatalogAutoRefresh(temp.resolve("catalog.stamp"), Duration.ZERO);
+
+        assertThat(refresh.claim()).isFalse();
+    }
+}
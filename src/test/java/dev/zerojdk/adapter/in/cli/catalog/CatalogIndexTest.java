@@ -0,0 +1,122 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CatalogIndexTest {
+    @TempDir
+    private Path temp;
+
+    private Path file;
+    private Path catalog;
+    private String stamp;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = temp.resolve("catalog.idx");
+        catalog = Files.createDirectories(temp.resolve("catalog"));
+        Files.writeString(catalog.resolve("catalog.json"), "{}");
+        stamp = CatalogIndex.stamp(catalog);
+
+        Map<String, List<JdkVersion>> distributions = new LinkedHashMap<>();
+        distributions.put("Semeru", List.of(
+            version("Semeru", "21.0.6", 21, "semeru-21.0.6", JdkVersion.Support.LTS),
+            version("Semeru", "21.0.7", 21, "semeru-21.0.7", JdkVersion.Support.LTS)));
+        distributions.put("Temurin", List.of(
+            version("Temurin", "24.0.1", 24, "temurin-24.0.1", JdkVersion.Support.NON_LTS)));
+
+        CatalogIndex.write(file, "Linux/amd64", "1.0.0", stamp, distributions, Map.of(
+            "semeru-21.0.7", (byte) (CatalogIndex.LATEST | CatalogIndex.LATEST_OF_DISTRIBUTION),
+            "temurin-24.0.1", CatalogIndex.LATEST_OF_DISTRIBUTION));
+    }
+
+    @Test
+    void looksUpEntriesByIdentifier() {
+        CatalogIndex index = CatalogIndex.open(file, "Linux/amd64", "1.0.0", stamp).orElseThrow();
+
+        assertThat(index.findByIdentifier(null, "semeru-21.0.6"))
+            .hasValueSatisfying(v -> {
+                assertThat(v.getDistribution()).isEqualTo("Semeru");
+                assertThat(v.getDistributionVersion()).isEqualTo("21.0.6");
+                assertThat(v.getMajorVersion()).isEqualTo(21);
+                assertThat(v.getSupport()).isEqualTo(JdkVersion.Support.LTS);
+                assertThat(v.getLink()).isEqualTo("https://example.com/semeru");
+            });
+        assertThat(index.findByIdentifier(null, "zulu-21")).isEmpty();
+    }
+
+    @Test
+    void answersDistributionQueriesFromFlags() {
+        CatalogIndex index = CatalogIndex.open(file, "Linux/amd64", "1.0.0", stamp).orElseThrow();
+
+        assertThat(index.findLatest(null)).containsOnlyKeys("Semeru");
+        assertThat(index.findLatestByDistribution(null, "temurin"))
+            .extracting(JdkVersion::getIdentifier)
+            .containsExactly("temurin-24.0.1");
+        assertThat(index.findAllByDistribution(null, "Semeru"))
+            .extracting(JdkVersion::getIdentifier)
+            .containsExactly("semeru-21.0.6", "semeru-21.0.7");
+    }
+
+    @Test
+    void isStaleForOtherPlatformOrVersion() throws Exception {
+        assertThat(CatalogIndex.open(file, "Mac OS X/aarch64", "1.0.0", stamp)).isEmpty();
+        assertThat(CatalogIndex.open(file, "Linux/amd64", "1.0.1", stamp)).isEmpty();
+
+        Files.writeString(file, "garbage");
+        assertThat(CatalogIndex.open(file, "Linux/amd64", "1.0.0", stamp)).isEmpty();
+    }
+
+    @Test
+    void isStaleOnceTheCatalogChanges() throws Exception {
+        assertThat(CatalogIndex.stamp(catalog)).isEqualTo(stamp);
+
+        Files.writeString(catalog.resolve("catalog.json"), "{\"v\": 2}");
+        Files.setLastModifiedTime(catalog.resolve("catalog.json"), FileTime.from(Instant.parse("2030-01-01T00:00:00Z")));
+
+        assertThat(CatalogIndex.open(file, "Linux/amd64", "1.0.0", CatalogIndex.stamp(catalog))).isEmpty();
+    }
+
+    @Test
+    void keepsEntriesWithoutIdentifierOrSupport() {
+        Map<String, List<JdkVersion>> distributions = Map.of("Zulu", List.of(
+            version("Zulu", "21.0.1", 21, null, null),
+            version("Zulu", "21.0.2", 21, "zulu-21.0.2", JdkVersion.Support.LTS)));
+
+        CatalogIndex.write(file, "Linux/amd64", "1.0.0", stamp, distributions, Map.of());
+        CatalogIndex index = CatalogIndex.open(file, "Linux/amd64", "1.0.0", stamp).orElseThrow();
+
+        assertThat(index.findAllByDistribution(null, "Zulu"))
+            .extracting(JdkVersion::getIdentifier, JdkVersion::getSupport)
+            .containsExactly(tuple(null, null), tuple("zulu-21.0.2", JdkVersion.Support.LTS));
+        assertThat(index.findByIdentifier(null, "zulu-21.0.2")).isPresent();
+        assertThat(index.findByIdentifier(null, "zulu-21.0.1")).isEmpty();
+    }
+
+    private static JdkVersion version(String distribution, String distributionVersion, int major,
+                                      String identifier, JdkVersion.Support support) {
+        JdkVersion version = new JdkVersion();
+        version.setDistribution(distribution);
+        version.setDistributionVersion(distributionVersion);
+        version.setJavaVersion(distributionVersion);
+        version.setMajorVersion(major);
+        version.setIdentifier(identifier);
+        version.setSupport(support);
+        version.setLink("https://example.com/" + distribution.toLowerCase());
+
+        return version;
+    }
+}
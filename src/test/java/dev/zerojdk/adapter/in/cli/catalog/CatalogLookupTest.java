@@ -0,0 +1,121 @@
+package dev.zerojdk.adapter.in.cli.catalog;
+
+import dev.zerojdk.adapter.out.SystemPropertyBasedPlatformDetection;
+import dev.zerojdk.adapter.out.catalog.JsonCatalogRepository;
+import dev.zerojdk.adapter.out.catalog.provider.CatalogStorageProvider;
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.service.catalog.CatalogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Builds the index from the catalog in the test resources, read by the same repository the CLI uses, and checks that
+ * every query answers the fields the index holds exactly as the catalog service does.
+ */
+class CatalogLookupTest {
+    @TempDir
+    private Path temp;
+
+    private final Platform platform = new SystemPropertyBasedPlatformDetection().detect();
+    private CatalogService catalogService;
+    private CatalogLookup lookup;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path catalog = Files.createDirectories(temp.resolve("catalog"));
+        Path json = Files.copy(resource("/catalog/catalog.json"), catalog.resolve("catalog.json"));
+
+        catalogService = new CatalogService(new JsonCatalogRepository(provider(json)));
+        lookup = new CatalogLookup(temp.resolve("catalog.idx"), catalog, "test", () -> catalogService);
+        lookup.rebuild(platform);
+    }
+
+    @Test
+    void answersLatestVersionsLikeTheCatalog() {
+        assertThat(lookup.findLatest(platform)).hasSameSizeAs(catalogService.findLatest(platform));
+
+        catalogService.findLatest(platform).forEach((distribution, versions) ->
+            assertSameListing(lookup.findLatest(platform).get(distribution), versions));
+    }
+
+    @Test
+    void answersVersionsByDistributionLikeTheCatalog() {
+        for (String distribution : catalogService.findLatest(platform).keySet()) {
+            assertSameListing(lookup.findAllByDistribution(platform, distribution),
+                catalogService.findAllByDistribution(platform, distribution));
+            assertSameListing(lookup.findLatestByDistribution(platform, distribution),
+                catalogService.findLatestByDistribution(platform, distribution));
+        }
+    }
+
+    @Test
+    void answersIdentifiersLikeTheCatalog() {
+        List<JdkVersion> all = catalogService.findLatest(platform).keySet().stream()
+            .flatMap(distribution -> catalogService.findAllByDistribution(platform, distribution).stream())
+            .toList();
+
+        assertThat(all).isNotEmpty();
+        for (JdkVersion version : all) {
+            assertSameListing(
+                List.of(lookup.findByIdentifier(platform, version.getIdentifier()).orElseThrow()),
+                List.of(catalogService.findByIdentifier(platform, version.getIdentifier()).orElseThrow()));
+        }
+        assertThat(lookup.findByIdentifier(platform, "unknown-1")).isEmpty();
+    }
+
+    // the fields the index holds, anything else is only available from the catalog service
+    private static void assertSameListing(List<JdkVersion> indexed, List<JdkVersion> expected) {
+        assertThat(indexed)
+            .extracting(JdkVersion::getDistribution, JdkVersion::getDistributionVersion, JdkVersion::getJavaVersion,
+                JdkVersion::getIdentifier, JdkVersion::getLink, JdkVersion::getMajorVersion, JdkVersion::getSupport,
+                JdkVersion::getPlatform)
+            .containsExactlyElementsOf(expected.stream()
+                .map(v -> tuple(v.getDistribution(), v.getDistributionVersion(),
+                    v.getJavaVersion(), v.getIdentifier(), v.getLink(), v.getMajorVersion(), v.getSupport(),
+                    v.getPlatform()))
+                .toList());
+    }
+
+    // hands out the catalog file in whatever form the repository asks for it
+    private static CatalogStorageProvider provider(Path json) {
+        return mock(CatalogStorageProvider.class, invocation -> {
+            Class<?> type = invocation.getMethod().getReturnType();
+            String content = Files.readString(json);
+
+            if (type == Path.class) {
+                return json;
+            } else if (type == String.class) {
+                return content;
+            } else if (type == InputStream.class) {
+                return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+            } else if (type == Reader.class) {
+                return new StringReader(content);
+            } else if (type == byte[].class) {
+                return content.getBytes(StandardCharsets.UTF_8);
+            }
+
+            throw new UnsupportedOperationException(invocation.getMethod().toString());
+        });
+    }
+
+    private static Path resource(String name) throws URISyntaxException {
+        return Path.of(Objects.requireNonNull(CatalogLookupTest.class.getResource(name)).toURI());
+    }
+}
@@ -0,0 +1,132 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConfigFileLocatorTest {
+    @TempDir
+    private Path temp;
+
+    private Path project;
+    private Path module;
+    private Path lookupTable;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = Files.createDirectories(temp.resolve("project"));
+        writeConfig(project);
+        module = Files.createDirectories(project.resolve("a").resolve("b").resolve("module"));
+        lookupTable = temp.resolve("cache").resolve("roots.tsv");
+    }
+
+    @Test
+    void locatesNearestProjectRoot() {
+        ConfigFileLocator locator = new ConfigFileLocator(temp.resolve("global.properties"), lookupTable);
+
+        assertThat(locator.locateProjectRoot(module)).contains(project);
+        assertThat(locator.locateProjectRoot(module)).contains(project);
+        assertThat(locator.locateProjectRoot(temp)).isEmpty();
+    }
+
+    @Test
+    void reusesPersistedRoot() throws IOException {
+        new ConfigFileLocator(temp.resolve("global.properties"), lookupTable, () -> 0).locateProjectRoot(module);
+
+        assertThat(Files.readString(lookupTable)).contains(project.toString());
+        assertThat(new ConfigFileLocator(temp.resolve("global.properties"), lookupTable,
+            () -> ConfigFileLocator.TTL.toMillis() + 1)
+            .locateProjectRoot(module))
+            .contains(project);
+    }
+
+    @Test
+    void noticesNestedConfigCreatedAfterCaching() throws IOException {
+        new ConfigFileLocator(temp.resolve("global.properties"), lookupTable, () -> 0).locateProjectRoot(module);
+
+        // creating the file inside an existing .zjdk directory leaves the directory's modification time alone
+        Path b = module.getParent();
+        Files.createDirectories(b.resolve(".zjdk"));
+        writeConfig(b);
+
+        assertThat(new ConfigFileLocator(temp.resolve("global.properties"), lookupTable, () -> 1000)
+            .locateProjectRoot(module))
+            .contains(b);
+    }
+
+    @Test
+    void expiresUnmanagedDirectories() throws IOException {
+        AtomicLong now = new AtomicLong();
+        ConfigFileLocator locator = new ConfigFileLocator(temp.resolve("global.properties"), lookupTable, now::get);
+        Path unmanaged = Files.createDirectories(temp.resolve("unmanaged"));
+        assertThat(locator.locateProjectRoot(unmanaged)).isEmpty();
+
+        // creating the file inside an existing .zjdk directory leaves the directory's modification time alone
+        Files.createDirectories(unmanaged.resolve(".zjdk"));
+        writeConfig(unmanaged);
+        assertThat(locator.locateProjectRoot(unmanaged)).isEmpty();
+
+        now.set(ConfigFileLocator.TTL.toMillis() + 1);
+        assertThat(locator.locateProjectRoot(unmanaged)).contains(unmanaged);
+    }
+
+    @Test
+    void appendsMissesAndCompactsTheTable() throws IOException {
+        ConfigFileLocator locator = new ConfigFileLocator(temp.resolve("global.properties"), lookupTable);
+
+        for (int i = 0; i < 2 * ConfigFileLocator.CAPACITY; i++) {
+            locator.locateProjectRoot(project.resolve("dir" + i));
+        }
+        assertThat(Files.readAllLines(lookupTable)).hasSize(2 * ConfigFileLocator.CAPACITY);
+
+        new ConfigFileLocator(temp.resolve("global.properties"), lookupTable).locateProjectRoot(module);
+
+        assertThat(Files.readAllLines(lookupTable))
+            .hasSize(ConfigFileLocator.CAPACITY + 1)
+            .first().asString().startsWith(project.resolve("dir" + ConfigFileLocator.CAPACITY).toString());
+    }
+
+    @Test
+    void noticesRemovedConfig() throws IOException {
+        ConfigFileLocator locator = new ConfigFileLocator(temp.resolve("global.properties"), lookupTable);
+        locator.locateProjectRoot(module);
+
+        Files.delete(project.resolve(".zjdk").resolve("config.properties"));
+
+        assertThat(locator.locateProjectRoot(module)).isEmpty();
+    }
+
+    @Test
+    void walksAgainAfterInvalidation() throws IOException {
+        ConfigFileLocator locator = new ConfigFileLocator(temp.resolve("global.properties"), lookupTable);
+        locator.locateProjectRoot(module);
+
+        Path b = module.getParent();
+        writeConfig(b);
+        locator.invalidate();
+
+        assertThat(lookupTable).doesNotExist();
+        assertThat(locator.locateProjectRoot(module)).contains(b);
+    }
+
+    @Test
+    void fallsBackToGlobalConfig() throws IOException {
+        Path global = Files.writeString(temp.resolve("global.properties"), "version=temurin-21");
+        ConfigFileLocator locator = new ConfigFileLocator(global, lookupTable);
+
+        assertThat(locator.locate(module)).contains(project.resolve(".zjdk").resolve("config.properties"));
+        assertThat(locator.locate(temp)).contains(global);
+    }
+
+    private static void writeConfig(Path directory) throws IOException {
+        Files.createDirectories(directory.resolve(".zjdk"));
+        Files.writeString(directory.resolve(".zjdk").resolve("config.properties"), "version=temurin-21");
+    }
+}
@@ -0,0 +1,101 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnvCacheTest {
+    @TempDir
+    private Path temp;
+
+    private Path project;
+    private Path config;
+    private Path javaHome;
+    private final AtomicLong now = new AtomicLong();
+    private EnvCache envCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = Files.createDirectories(temp.resolve("project"));
+        config = Files.createDirectories(project.resolve(".zjdk")).resolve("config.properties");
+        Files.writeString(config, "version=temurin-21");
+        javaHome = Files.createDirectories(temp.resolve("jdks").resolve("temurin-21"));
+
+        envCache = new EnvCache(temp.resolve("cache").resolve("env.tsv"),
+            new ConfigFileLocator(temp.resolve("home").resolve("config.properties"), null, now::get));
+    }
+
+    @Test
+    void returnsCachedJavaHomeForUnchangedConfig() {
+        envCache.put(project, javaHome.toString());
+
+        assertThat(envCache.find(project)).contains(javaHome.toString());
+    }
+
+    @Test
+    void missesWhenGoverningConfigWasModified() throws IOException {
+        envCache.put(project, javaHome.toString());
+        Files.setLastModifiedTime(config, FileTime.from(Instant.now().plusSeconds(60)));
+
+        assertThat(envCache.find(project)).isEmpty();
+    }
+
+    @Test
+    void missesWhenJavaHomeWasRemoved() throws IOException {
+        envCache.put(project, javaHome.toString());
+        Files.delete(javaHome);
+
+        assertThat(envCache.find(project)).isEmpty();
+    }
+
+    @Test
+    void missesWhenNestedConfigTakesOver() throws IOException {
+        Path module = Files.createDirectories(project.resolve("module"));
+        envCache.put(module, javaHome.toString());
+
+        Files.createDirectories(module.resolve(".zjdk"));
+        Files.writeString(module.resolve(".zjdk").resolve("config.properties"), "version=temurin-24");
+        now.set(ConfigFileLocator.TTL.toMillis() + 1);
+
+        assertThat(envCache.find(module)).isEmpty();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyResolvedDirectoryOnceFull() {
+        for (int i = 0; i <= EnvCache.CAPACITY; i++) {
+            envCache.put(project.resolve("module-" + i), javaHome.toString());
+        }
+
+        assertThat(envCache.find(project.resolve("module-0"))).isEmpty();
+        assertThat(envCache.find(project.resolve("module-1"))).contains(javaHome.toString());
+    }
+
+    @Test
+    void appendsMissesToTheCacheFile() throws IOException {
+        Path cacheFile = temp.resolve("cache").resolve("env.tsv");
+
+        envCache.put(project, javaHome.toString());
+        envCache.put(project.resolve("module"), javaHome.toString());
+
+        assertThat(Files.readAllLines(cacheFile)).hasSize(2);
+        assertThat(new EnvCache(cacheFile, new ConfigFileLocator(temp.resolve("home").resolve("config.properties"),
+            null, now::get)).find(project)).contains(javaHome.toString());
+    }
+
+    @Test
+    void missesAfterInvalidation() {
+        envCache.put(project, javaHome.toString());
+        envCache.invalidate();
+
+        assertThat(envCache.find(project)).isEmpty();
+    }
+}
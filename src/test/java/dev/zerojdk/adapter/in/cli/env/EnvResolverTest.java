@@ -0,0 +1,76 @@
+package dev.zerojdk.adapter.in.cli.env;
+
+import dev.zerojdk.domain.model.release.JdkRelease;
+import dev.zerojdk.domain.service.config.JdkConfigService;
+import dev.zerojdk.domain.service.release.JdkReleaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EnvResolverTest {
+    @TempDir
+    private Path temp;
+
+    @Mock
+    private JdkConfigService jdkConfigService;
+
+    @Mock
+    private JdkReleaseService jdkReleaseService;
+
+    private Path project;
+    private Path javaHome;
+    private EnvCache envCache;
+    private EnvResolver envResolver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = Files.createDirectories(temp.resolve("project"));
+        Files.createDirectories(project.resolve(".zjdk"));
+        Files.writeString(project.resolve(".zjdk").resolve("config.properties"), "version=temurin-21");
+        javaHome = Files.createDirectories(temp.resolve("jdks").resolve("temurin-21"));
+
+        ConfigFileLocator configFileLocator = new ConfigFileLocator(temp.resolve("home").resolve("config.properties"));
+        envCache = new EnvCache(temp.resolve("cache").resolve("env.tsv"), configFileLocator);
+        envResolver = new EnvResolver(() -> null, configFileLocator, envCache,
+            () -> jdkConfigService, () -> jdkReleaseService);
+    }
+
+    @Test
+    void answersFromTheCacheWithoutTheServices() {
+        envCache.put(project, javaHome.toString());
+
+        assertThat(envResolver.javaHome(project)).contains(javaHome.toString());
+        verifyNoInteractions(jdkConfigService, jdkReleaseService);
+    }
+
+    @Test
+    void resolvesAndCachesOnMiss() {
+        when(jdkConfigService.getActiveVersion(any())).thenReturn("temurin-21");
+        when(jdkReleaseService.findJdkRelease(any(), eq("temurin-21")))
+            .thenReturn(Optional.of(new JdkRelease(null, javaHome)));
+
+        assertThat(envResolver.javaHome(project)).contains(javaHome.toString());
+        assertThat(envCache.find(project)).contains(javaHome.toString());
+    }
+
+    @Test
+    void namesTheGoverningConfig() {
+        assertThat(envResolver.governingConfig(project.resolve("module")))
+            .contains(project.resolve(".zjdk").resolve("config.properties"));
+    }
+}
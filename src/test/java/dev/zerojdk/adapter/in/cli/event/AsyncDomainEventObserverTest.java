@@ -0,0 +1,159 @@
+package dev.zerojdk.adapter.in.cli.event;
+
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import dev.zerojdk.domain.port.out.event.Observer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncDomainEventObserverTest {
+    private record Started(String id) { }
+    private record Progress(int percent) { }
+
+    private final Map<Class<?>, Consumer<Object>> published = new HashMap<>();
+    private AsyncDomainEventObserver observer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DomainEventObserver delegate = mock(DomainEventObserver.class);
+        when(delegate.register(any(), any())).thenAnswer(invocation -> {
+            published.put(invocation.getArgument(0), invocation.getArgument(1));
+            return (Observer) () -> { };
+        });
+
+        observer = new AsyncDomainEventObserver(delegate, 16, Set.of(Progress.class));
+    }
+
+    @Test
+    void handlesEventsOnConsumerThreadAndReportsPublisher() {
+        List<Thread> handledOn = new CopyOnWriteArrayList<>();
+        List<Thread> publishers = new CopyOnWriteArrayList<>();
+
+        Observer registration = observer.register(Started.class, e -> {
+            handledOn.add(Thread.currentThread());
+            publishers.add(AsyncDomainEventObserver.publisher());
+        });
+
+        published.get(Started.class).accept(new Started("temurin-21"));
+        registration.close();
+
+        assertThat(handledOn).hasSize(1).doesNotContain(Thread.currentThread());
+        assertThat(publishers).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void coalescesProgressWhileConsumerIsBusy() throws InterruptedException {
+        CountDownLatch busy = new CountDownLatch(1);
+        List<Object> handled = new CopyOnWriteArrayList<>();
+
+        Observer started = observer.register(Started.class, e -> {
+            await(busy);
+            handled.add(e);
+        });
+        Observer progress = observer.register(Progress.class, handled::add);
+
+        published.get(Started.class).accept(new Started("temurin-21"));
+        for (int percent = 0; percent <= 100; percent++) {
+            published.get(Progress.class).accept(new Progress(percent));
+        }
+        busy.countDown();
+
+        progress.close();
+        started.close();
+
+        assertThat(handled).containsExactly(new Started("temurin-21"), new Progress(100));
+    }
+
+    @Test
+    void keepsProgressOrderedAroundOtherEvents() {
+        CountDownLatch busy = new CountDownLatch(1);
+        List<Object> handled = new CopyOnWriteArrayList<>();
+
+        Observer started = observer.register(Started.class, e -> {
+            await(busy);
+            handled.add(e);
+        });
+        Observer progress = observer.register(Progress.class, handled::add);
+
+        published.get(Started.class).accept(new Started("temurin-21"));
+        published.get(Progress.class).accept(new Progress(50));
+        published.get(Progress.class).accept(new Progress(100));
+        published.get(Started.class).accept(new Started("zulu-17"));
+        published.get(Progress.class).accept(new Progress(10));
+        busy.countDown();
+
+        progress.close();
+        started.close();
+
+        assertThat(handled).containsExactly(
+            new Started("temurin-21"), new Progress(100), new Started("zulu-17"), new Progress(10));
+    }
+
+    @Test
+    void keepsTheOrderOfEachPublisherWhenTheQueueFillsUp() throws InterruptedException {
+        List<Object> handled = new CopyOnWriteArrayList<>();
+        Observer started = observer.register(Started.class, handled::add);
+
+        List<Thread> publishers = List.of("temurin", "zulu", "corretto").stream()
+            .map(vendor -> Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 200; i++) {
+                    published.get(Started.class).accept(new Started(vendor + "-" + i));
+                }
+            }))
+            .toList();
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        started.close();
+
+        assertThat(handled).hasSize(600);
+        for (String vendor : List.of("temurin", "zulu", "corretto")) {
+            assertThat(handled.stream().map(e -> ((Started) e).id()).filter(id -> id.startsWith(vendor + "-")))
+                .containsExactlyElementsOf(IntStream.range(0, 200).mapToObj(i -> vendor + "-" + i).toList());
+        }
+    }
+
+    @Test
+    void reportsFailingHandlersWithoutMessageByType() {
+        PrintStream err = System.err;
+        ByteArrayOutputStream reported = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(reported, true, StandardCharsets.UTF_8));
+
+        try {
+            Observer started = observer.register(Started.class, e -> {
+                throw new NullPointerException();
+            });
+            published.get(Started.class).accept(new Started("temurin-21"));
+            started.close();
+        } finally {
+            System.setErr(err);
+        }
+
+        assertThat(reported.toString(StandardCharsets.UTF_8)).isEqualToIgnoringNewLines("java.lang.NullPointerException");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.zerojdk.adapter.in.cli.event;
+
+import dev.zerojdk.adapter.in.cli.console.Console;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressMeterTest {
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void rendersOnlyAfterPercentStepAndInterval() {
+        ProgressMeter meter = new ProgressMeter(Duration.ofMillis(100), 1, 0);
+
+        assertThat(meter.update(0, 1000, 0)).isTrue();
+        assertThat(meter.update(5, 1000, 150 * MILLIS)).isFalse(); // same percentage
+        assertThat(meter.update(20, 1000, 160 * MILLIS)).isTrue();
+        assertThat(meter.update(500, 1000, 200 * MILLIS)).isFalse(); // too soon
+        assertThat(meter.update(1000, 1000, 210 * MILLIS)).isTrue(); // completion is never throttled
+        assertThat(meter.update(1000, 1000, 900 * MILLIS)).isFalse();
+    }
+
+    @Test
+    void rendersThroughputAndRemainingTime() {
+        ProgressMeter meter = new ProgressMeter(Duration.ZERO, 10, 0);
+
+        meter.update(25_000_000, 100_000_000, 2_000 * MILLIS);
+
+        assertThat(render(meter)).isEqualTo(" 25%  12.5 MB/s  ETA 0:06");
+
+        meter.update(100_000_000, 100_000_000, 8_000 * MILLIS);
+
+        assertThat(render(meter)).isEqualTo("100%  12.5 MB/s");
+    }
+
+    private static String render(ProgressMeter meter) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Console console = new Console(new PrintStream(bytes));
+
+        meter.render(console);
+        console.flush();
+
+        return bytes.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StructuredWriterTest {
+    @Test
+    void writesJsonArrayWithOneRecordPerLine() {
+        StringWriter out = new StringWriter();
+
+        write(new StructuredWriter(out, OutputFormat.JSON, "identifier", "major_version", "link"));
+
+        assertThat(out).hasToString("""
+            [
+            {"identifier":"temurin-21","major_version":21,"link":null},
+            {"identifier":"say \\"hi\\"\\n","major_version":-8,"link":"C:\\\\jdk"}
+            ]
+            """);
+    }
+
+    @Test
+    void writesNdjson() {
+        StringWriter out = new StringWriter();
+
+        write(new StructuredWriter(out, OutputFormat.NDJSON, "identifier", "major_version", "link"));
+
+        assertThat(out).hasToString("""
+            {"identifier":"temurin-21","major_version":21,"link":null}
+            {"identifier":"say \\"hi\\"\\n","major_version":-8,"link":"C:\\\\jdk"}
+            """);
+    }
+
+    @Test
+    void writesTsvWithHeader() {
+        StringWriter out = new StringWriter();
+
+        write(new StructuredWriter(out, OutputFormat.TSV, "identifier", "major_version", "link"));
+
+        assertThat(out).hasToString("""
+            identifier\tmajor_version\tlink
+            temurin-21\t21\t
+            say "hi"\\n\t-8\tC:\\\\jdk
+            """);
+    }
+
+    @Test
+    void writesSingleJsonRecordAsObject() {
+        StringWriter out = new StringWriter();
+
+        new StructuredWriter(out, OutputFormat.JSON, "java_home")
+            .beginRecord()
+            .field("java_home", "/opt/jdk")
+            .endRecord()
+            .flush();
+
+        assertThat(out).hasToString("{\"java_home\":\"/opt/jdk\"}\n");
+    }
+
+    private static void write(StructuredWriter writer) {
+        writer.beginList()
+            .beginRecord()
+            .field("identifier", "temurin-21")
+            .field("major_version", 21)
+            .field("link", null)
+            .endRecord()
+            .beginRecord()
+            .field("identifier", "say \"hi\"\n")
+            .field("major_version", -8)
+            .field("link", "C:\\jdk")
+            .endRecord()
+            .endList()
+            .flush();
+    }
+}
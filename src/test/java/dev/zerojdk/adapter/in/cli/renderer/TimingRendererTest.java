@@ -0,0 +1,40 @@
+package dev.zerojdk.adapter.in.cli.renderer;
+
+import dev.zerojdk.adapter.in.cli.timing.Span;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingRendererTest {
+    @Test
+    void indentsSpansBelowTheSpansOfTheirThreadEnclosingThem() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new TimingRenderer(new PrintStream(out, true, StandardCharsets.UTF_8)).render("zjdk sync", List.of(
+            new Span("zjdk sync", "main", 0, 10_000_000),
+            new Span("init jdk-install", "main", 1_000_000, 2_000_000),
+            new Span("init catalog-storage", "main", 1_500_000, 500_000),
+            new Span("download temurin-21", "pool-1-thread-1", 3_000_000, 5_000_000),
+            new Span("installer.install", "main", 4_000_000, 1_000_000)));
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualToNormalizingNewlines(String.format("""
+
+            Timings (zjdk sync):
+                    %s ms  zjdk sync
+                     %s ms    init jdk-install
+                     %s ms      init catalog-storage
+                     %s ms  download temurin-21 [pool-1-thread-1]
+                     %s ms    installer.install
+            """, format(10.0), format(2.0), format(0.5), format(5.0), format(1.0)));
+    }
+
+    // the renderer formats with the default locale
+    private static String format(double millis) {
+        return String.format("%.1f", millis);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.zerojdk.adapter.in.cli.sync;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ManifestScannerTest {
+    @TempDir
+    private Path root;
+
+    @Test
+    void findsProjectsAtAnyDepthIncludingTheRoot() throws IOException {
+        Path service = root.resolve("services").resolve("billing");
+        Path module = service.resolve("module");
+        manifest(root);
+        manifest(service);
+        manifest(module);
+
+        assertThat(new ManifestScanner().scan(root))
+            .containsExactlyInAnyOrder(root, service, module);
+    }
+
+    @Test
+    void skipsHiddenDirectoriesAndDirectoriesWithoutConfig() throws IOException {
+        manifest(root.resolve(".git").resolve("modules").resolve("library"));
+        Files.createDirectories(root.resolve("docs").resolve(".zjdk"));
+
+        assertThat(new ManifestScanner().scan(root)).isEmpty();
+    }
+
+    private static void manifest(Path project) throws IOException {
+        Path config = Files.createDirectories(project.resolve(".zjdk")).resolve("config.properties");
+        Files.writeString(config, "version=temurin-21");
+    }
+}
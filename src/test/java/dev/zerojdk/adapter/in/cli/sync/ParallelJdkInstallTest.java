@@ -0,0 +1,54 @@
+package dev.zerojdk.adapter.in.cli.sync;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.service.install.JdkInstallService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelJdkInstallTest {
+    @Mock
+    private JdkInstallService jdkInstallService;
+
+    @Test
+    void installsEachDistinctVersionOnce() {
+        JdkVersion temurin = version("temurin-21");
+        JdkVersion zulu = version("zulu-17");
+
+        new ParallelJdkInstall(jdkInstallService)
+            .install(List.of(temurin, zulu, version("temurin-21")), 2);
+
+        verify(jdkInstallService).install(temurin);
+        verify(jdkInstallService).install(zulu);
+        verify(jdkInstallService, times(2)).install(any());
+    }
+
+    @Test
+    void rethrowsTheFirstFailureWithTheOthersSuppressed() {
+        JdkVersion temurin = version("temurin-21");
+        JdkVersion zulu = version("zulu-17");
+        doThrow(new IllegalStateException("temurin failed")).when(jdkInstallService).install(temurin);
+        doThrow(new IllegalStateException("zulu failed")).when(jdkInstallService).install(zulu);
+
+        assertThatThrownBy(() -> new ParallelJdkInstall(jdkInstallService).install(List.of(temurin, zulu), 1))
+            .hasMessage("temurin failed")
+            .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+
+    private static JdkVersion version(String identifier) {
+        JdkVersion version = new JdkVersion();
+        version.setIdentifier(identifier);
+        return version;
+    }
+}
@@ -0,0 +1,61 @@
+package dev.zerojdk.adapter.in.cli.sync;
+
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.service.config.JdkConfigService;
+import dev.zerojdk.domain.service.sync.ManifestSyncService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelManifestSyncTest {
+    private static final Path BILLING = Path.of("billing");
+    private static final Path LEDGER = Path.of("ledger");
+    private static final Path LEGACY = Path.of("legacy");
+
+    @Mock
+    private JdkConfigService jdkConfigService;
+    @Mock
+    private ManifestSyncService manifestSyncService;
+    @Mock
+    private Platform platform;
+
+    @Test
+    void groupsProjectsByVersionAndSyncsEachVersionOnce() {
+        when(jdkConfigService.getActiveVersion(any())).thenReturn("temurin-21", "zulu-8", "temurin-21");
+
+        Map<String, List<Path>> synced = new ParallelManifestSync(jdkConfigService, manifestSyncService)
+            .sync(platform, List.of(BILLING, LEGACY, LEDGER), 2);
+
+        assertThat(synced).containsOnlyKeys("temurin-21", "zulu-8");
+        assertThat(synced.get("temurin-21")).containsExactly(BILLING, LEDGER);
+        assertThat(synced.get("zulu-8")).containsExactly(LEGACY);
+        verify(manifestSyncService, times(2)).sync(eq(platform), any());
+    }
+
+    @Test
+    void rethrowsTheFirstFailureWithTheOthersSuppressed() {
+        when(jdkConfigService.getActiveVersion(any())).thenReturn("temurin-21", "zulu-8");
+        doThrow(new IllegalStateException("temurin failed"), new IllegalStateException("zulu failed"))
+            .when(manifestSyncService).sync(eq(platform), any());
+
+        assertThatThrownBy(() -> new ParallelManifestSync(jdkConfigService, manifestSyncService)
+            .sync(platform, List.of(BILLING, LEGACY), 1))
+            .hasMessage("temurin failed")
+            .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+}
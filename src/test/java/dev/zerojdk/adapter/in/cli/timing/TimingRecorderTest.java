@@ -0,0 +1,135 @@
+package dev.zerojdk.adapter.in.cli.timing;
+
+import dev.zerojdk.domain.model.JdkVersion;
+import dev.zerojdk.domain.model.release.events.download.JdkDownloadStarted;
+import dev.zerojdk.domain.port.out.event.DomainEventObserver;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TimingRecorderTest {
+    @Test
+    void recordsNestedSpansInTheOrderTheyStarted() {
+        TimingRecorder recorder = new TimingRecorder(true);
+
+        recorder.time("command", () -> recorder.time("init catalog-storage", () -> "storage"));
+
+        assertThat(recorder.spans())
+            .extracting(Span::name)
+            .containsExactly("command", "init catalog-storage");
+        assertThat(recorder.spans().get(0).endNanos())
+            .isGreaterThanOrEqualTo(recorder.spans().get(1).endNanos());
+        assertThat(recorder.spans())
+            .allSatisfy(span -> assertThat(span.startNanos()).isNotNegative());
+    }
+
+    @Test
+    void disabledRecorderHandsOutServicesUnwrapped() {
+        TimingRecorder recorder = TimingRecorder.disabled();
+        Function<String, String> port = String::trim;
+        DomainEventObserver observer = mock(DomainEventObserver.class);
+
+        assertThat(recorder.timed("port", Function.class, port)).isSameAs(port);
+        recorder.time("command", () -> "done");
+        recorder.register(observer);
+
+        assertThat(recorder.spans()).isEmpty();
+        verifyNoInteractions(observer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsEveryCallOfATimedPort() {
+        TimingRecorder recorder = new TimingRecorder(true);
+
+        Function<String, String> port = recorder.timed("port", Function.class, (Function<String, String>) String::trim);
+
+        assertThat(port.apply(" temurin-21 ")).isEqualTo("temurin-21");
+        assertThat(recorder.spans())
+            .extracting(Span::name)
+            .containsExactly("port.apply");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsFailingCallsAndRethrowsTheirCause() {
+        TimingRecorder recorder = new TimingRecorder(true);
+
+        Function<String, String> port = recorder.timed("port", Function.class, (Function<String, String>) s -> {
+            throw new IllegalStateException("offline");
+        });
+
+        assertThatThrownBy(() -> port.apply("temurin-21"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("offline");
+        assertThat(recorder.spans())
+            .extracting(Span::name)
+            .containsExactly("port.apply");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void namesDownloadsAfterTheAnnouncedJdkAndClosesThemWhenTheyFail() {
+        TimingRecorder recorder = new TimingRecorder(true);
+        Consumer<JdkDownloadStarted> started = register(recorder);
+
+        Function<String, String> downloads = recorder.timedDownloads(Function.class, (Function<String, String>) url -> {
+            started.accept(new JdkDownloadStarted(version("temurin-21")));
+
+            if (url.contains("missing")) {
+                throw new IllegalStateException("404");
+            }
+            return url;
+        });
+
+        downloads.apply("https://example.com/temurin-21.tar.gz");
+        assertThatThrownBy(() -> downloads.apply("https://example.com/missing.tar.gz"))
+            .hasMessage("404");
+
+        assertThat(recorder.spans())
+            .extracting(Span::name)
+            .containsExactly("download temurin-21", "download temurin-21");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsDownloadsWithoutAnnouncedJdk() {
+        TimingRecorder recorder = new TimingRecorder(true);
+        register(recorder);
+
+        Function<String, String> downloads = recorder.timedDownloads(Function.class,
+            (Function<String, String>) url -> url);
+
+        downloads.apply("https://example.com/catalog.zip");
+
+        assertThat(recorder.spans())
+            .extracting(Span::name)
+            .containsExactly("download");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<JdkDownloadStarted> register(TimingRecorder recorder) {
+        DomainEventObserver observer = mock(DomainEventObserver.class);
+        ArgumentCaptor<Consumer<JdkDownloadStarted>> started = ArgumentCaptor.forClass(Consumer.class);
+
+        recorder.register(observer);
+
+        verify(observer).register(eq(JdkDownloadStarted.class), started.capture());
+        return started.getValue();
+    }
+
+    private static JdkVersion version(String identifier) {
+        JdkVersion version = new JdkVersion();
+        version.setIdentifier(identifier);
+        return version;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.zerojdk.adapter.in.cli.timing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceFileWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void appendsOneJsonLinePerSpan() throws IOException {
+        Path file = tempDir.resolve("trace.jsonl");
+        TraceFileWriter writer = new TraceFileWriter(file);
+
+        writer.write("zjdk env", List.of(new Span("init jdk-config", "main", 1_500, 2_000_000)));
+        writer.write("zjdk sync", List.of(new Span("download \"temurin\"\\21", "pool-1-thread-1", 0, 999)));
+
+        List<String> lines = Files.readAllLines(file);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0))
+            .startsWith("{\"timestamp\":\"")
+            .contains("\"pid\":" + ProcessHandle.current().pid())
+            .endsWith("\"command\":\"zjdk env\",\"span\":\"init jdk-config\",\"thread\":\"main\","
+                + "\"start_us\":1,\"duration_us\":2000}");
+        assertThat(lines.get(1))
+            .endsWith("\"command\":\"zjdk sync\",\"span\":\"download \\\"temurin\\\"\\\\21\","
+                + "\"thread\":\"pool-1-thread-1\",\"start_us\":0,\"duration_us\":0}");
+    }
+
+    @Test
+    void escapesControlCharacters() throws IOException {
+        Path file = tempDir.resolve("trace.jsonl");
+
+        new TraceFileWriter(file).write("zjdk\tlist", List.of(new Span("catalog\n", "main", 0, 0)));
+
+        assertThat(Files.readString(file))
+            .contains("\"command\":\"zjdk\\u0009list\"")
+            .contains("\"span\":\"catalog\\u000a\"");
+    }
+}
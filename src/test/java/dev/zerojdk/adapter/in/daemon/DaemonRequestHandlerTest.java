@@ -0,0 +1,98 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import dev.zerojdk.adapter.in.cli.catalog.CatalogLookup;
+import dev.zerojdk.adapter.in.cli.env.EnvResolver;
+import dev.zerojdk.domain.model.Platform;
+import dev.zerojdk.domain.service.release.JdkReleaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DaemonRequestHandlerTest {
+    @TempDir
+    private Path temp;
+
+    private final Platform platform = mock(Platform.class);
+    private final EnvResolver envResolver = mock(EnvResolver.class);
+    private final CatalogLookup catalogLookup = mock(CatalogLookup.class);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Path envStamp;
+    private Path catalog;
+    private DaemonRequestHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        envStamp = temp.resolve("cache").resolve("env.stamp");
+        catalog = Files.createDirectories(temp.resolve("catalog"));
+        Files.writeString(catalog.resolve("catalog.json"), "[]");
+
+        when(envResolver.javaHome(any())).thenReturn(Optional.empty());
+        when(envResolver.activeVersion(any())).thenReturn("temurin-21.0.1");
+        when(catalogLookup.findByIdentifier(any(), any())).thenReturn(Optional.empty());
+
+        handler = new DaemonRequestHandler(platform, () -> {
+            loads.incrementAndGet();
+            return new DaemonRequestHandler.Services(envResolver, () -> mock(JdkReleaseService.class), catalogLookup);
+        }, envStamp, catalog);
+    }
+
+    @Test
+    void keepsServicesWhileNothingChanged() {
+        handler.handle("env\t/project", discard());
+        handler.handle("env\t/project", discard());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsOnceTheEnvStampWasTouched() throws Exception {
+        handler.handle("env\t/project", discard());
+
+        Files.createDirectories(envStamp.getParent());
+        Files.write(envStamp, new byte[0]);
+        handler.handle("env\t/project", discard());
+        handler.handle("env\t/project", discard());
+
+        Files.setLastModifiedTime(envStamp, FileTime.from(Instant.now().plusSeconds(5)));
+        handler.handle("env\t/project", discard());
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void reloadsOnceTheCatalogChanged() throws Exception {
+        handler.handle("env\t/project", discard());
+
+        Files.writeString(catalog.resolve("catalog.json"), "[{}]");
+        handler.handle("env\t/project", discard());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void answersInfoThroughTheCatalogLookup() {
+        handler.handle("info\t/project", discard());
+
+        verify(catalogLookup).findByIdentifier(platform, "temurin-21.0.1");
+    }
+
+    private static PrintStream discard() {
+        return new PrintStream(new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,190 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DaemonServerTest {
+    @TempDir
+    private Path temp;
+
+    private Thread server;
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.interrupt();
+            server.join(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    void reusesConnectionBuffersAcrossRequests() throws Exception {
+        Path socket = start(new HeapBudget(Long.MAX_VALUE, () -> 0));
+
+        assertThat(request(socket, "env\t/home/user/project")).isEqualTo("env\t/home/user/project|");
+        assertThat(request(socket, "list-installed")).isEqualTo("list-installed|");
+        assertThat(request(socket, "info\t/tmp/äöü")).isEqualTo("info\t/tmp/äöü|");
+    }
+
+    @Test
+    void streamsResponsesLargerThanTheBuffer() throws Exception {
+        Path socket = start(new HeapBudget(Long.MAX_VALUE, () -> 0));
+
+        assertThat(request(socket, "large")).isEqualTo(EchoHandler.LARGE + "|");
+        assertThat(request(socket, "small")).isEqualTo("small|");
+    }
+
+    @Test
+    void dropsRequestsExceedingTheMaximumLength() throws Exception {
+        Path socket = start(new HeapBudget(Long.MAX_VALUE, () -> 0));
+
+        String response;
+        try {
+            response = request(socket, "y".repeat(5000));
+        } catch (IOException e) {
+            // the connection is reset when the daemon closes it before reading everything
+            response = "";
+        }
+
+        assertThat(response).isEmpty();
+        assertThat(request(socket, "next")).isEqualTo("next|");
+    }
+
+    @Test
+    void stopsOnceTheHeapBudgetIsUsedUp() throws Exception {
+        AtomicBoolean exhausted = new AtomicBoolean();
+        Path socket = start(new HeapBudget(1, () -> exhausted.get() ? 1 : 0), new EchoHandler() {
+            @Override
+            public void handle(String request, PrintStream out) {
+                // the request that uses up the budget is still answered
+                exhausted.set(request.equals("exhaust"));
+                super.handle(request, out);
+            }
+        });
+
+        assertThat(request(socket, "env")).isEqualTo("env|");
+        assertThat(request(socket, "exhaust")).isEqualTo("exhaust|");
+
+        server.join(Duration.ofSeconds(5));
+        assertThat(server.isAlive()).isFalse();
+        assertThat(socket).doesNotExist();
+    }
+
+    /**
+     * Serves requests in a JVM with the epsilon GC and a fixed heap, like the native image, until the budget stops
+     * the daemon. It has to exit cleanly instead of running out of memory, after serving a meaningful number of
+     * requests.
+     */
+    @Test
+    void exitsBeforeAnEpsilonHeapRunsOut() throws Exception {
+        Path socket = temp.resolve("epsilon.sock");
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+
+        Process daemon = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:+UnlockExperimentalVMOptions", "-XX:+UseEpsilonGC", "-Xms64m", "-Xmx64m",
+                "-cp", classPath, EchoDaemon.class.getName(), socket.toString(), "24m")
+            .redirectErrorStream(true)
+            .redirectOutput(temp.resolve("daemon.log").toFile())
+            .start();
+
+        try {
+            awaitSocket(socket);
+
+            int served = 0;
+            while (daemon.isAlive() && served < 1_000_000) {
+                try {
+                    if (request(socket, "env\t" + temp).equals("env\t" + temp + "|")) {
+                        served++;
+                    }
+                } catch (IOException e) {
+                    // the daemon stopped accepting connections
+                }
+            }
+
+            assertThat(daemon.waitFor(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(Files.readString(temp.resolve("daemon.log"))).doesNotContain("OutOfMemoryError");
+            assertThat(daemon.exitValue()).isZero();
+            assertThat(served).isGreaterThan(1000);
+        } finally {
+            daemon.destroyForcibly();
+        }
+    }
+
+    private Path start(HeapBudget heapBudget) throws Exception {
+        return start(heapBudget, new EchoHandler());
+    }
+
+    private Path start(HeapBudget heapBudget, DaemonRequestHandler handler) throws Exception {
+        Path socket = temp.resolve("daemon.sock");
+
+        server = Thread.ofPlatform().daemon().start(() -> new DaemonServer(socket, handler, heapBudget).serve());
+        awaitSocket(socket);
+
+        return socket;
+    }
+
+    // the socket file appears before the server listens, so wait for a connection to succeed
+    private static void awaitSocket(Path socket) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            try (SocketChannel ignored = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+                return;
+            } catch (IOException e) {
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static String request(Path socket, String request) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(request + "\n");
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+
+            try (InputStream in = Channels.newInputStream(channel)) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static class EchoHandler extends DaemonRequestHandler {
+        static final String LARGE = "x".repeat(ConnectionBuffers.BUFFER_SIZE * 3 + 17);
+
+        EchoHandler() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public void handle(String request, PrintStream out) {
+            out.print(request.equals("large") ? LARGE : request);
+            out.print('|');
+        }
+    }
+
+    public static class EchoDaemon {
+        public static void main(String[] args) {
+            HeapBudget heapBudget = HeapBudget.from(Map.of(HeapBudget.BUDGET_VARIABLE, args[1]), Runtime.getRuntime());
+
+            new DaemonServer(Path.of(args[0]), new EchoHandler(), heapBudget).serve();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.zerojdk.adapter.in.daemon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeapBudgetTest {
+    @ParameterizedTest
+    @CsvSource({
+        "1048576, 1048576",
+        "512k, 524288",
+        "64m, 67108864",
+        "64M, 67108864",
+        "1g, 1073741824",
+        "' 8m ', 8388608"
+    })
+    void readsTheBudgetFromTheEnvironment(String value, long expected) {
+        assertThat(HeapBudget.from(Map.of(HeapBudget.BUDGET_VARIABLE, value), Runtime.getRuntime()).budget())
+            .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "lots", "12x", "m"})
+    void fallsBackToTheDefaultForInvalidValues(String value) {
+        assertThat(HeapBudget.from(Map.of(HeapBudget.BUDGET_VARIABLE, value), Runtime.getRuntime()).budget())
+            .isEqualTo(defaultBudget());
+    }
+
+    @Test
+    void defaultsToAtMostThreeQuartersOfTheMaximumHeap() {
+        assertThat(HeapBudget.from(Map.of(), Runtime.getRuntime()).budget())
+            .isEqualTo(defaultBudget())
+            .isLessThanOrEqualTo(HeapBudget.DEFAULT_BUDGET);
+    }
+
+    @Test
+    void isExhaustedOnceTheUsedHeapReachesTheBudget() {
+        AtomicLong used = new AtomicLong(1023);
+        HeapBudget budget = new HeapBudget(1024, used::get);
+
+        assertThat(budget.isExhausted()).isFalse();
+
+        used.set(1024);
+        assertThat(budget.isExhausted()).isTrue();
+    }
+
+    private static long defaultBudget() {
+        return Math.min(HeapBudget.DEFAULT_BUDGET, Runtime.getRuntime().maxMemory() / 4 * 3);
+    }
+}
@@ -0,0 +1,179 @@
+package dev.zerojdk.adapter.out.mirror;
+
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.SimpleFileServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MirrorPopulatorTest {
+    @TempDir
+    private Path mirror;
+
+    private HttpServer server;
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final Map<String, String> redirects = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            String location = redirects.get(exchange.getRequestURI().getPath());
+            if (location != null) {
+                exchange.getResponseHeaders().set("Location", location);
+                exchange.sendResponseHeaders(302, -1);
+                exchange.close();
+                return;
+            }
+
+            String body = files.get(exchange.getRequestURI().getPath());
+            byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+
+            exchange.sendResponseHeaders(body == null ? 404 : 200, body == null ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void downloadsIntoMirrorLayoutAndSkipsExistingFiles() throws IOException {
+        files.put("/jdks/a.tar.gz", "a");
+        files.put("/jdks/b.tar.gz", "bb");
+        MirrorPopulator populator = new MirrorPopulator(mirror);
+        List<URI> origins = List.of(origin("/jdks/a.tar.gz"), origin("/jdks/b.tar.gz"), origin("/jdks/a.tar.gz"));
+
+        PopulateResult first = populator.populate(origins, 2);
+        PopulateResult second = populator.populate(origins, 2);
+
+        assertThat(first).isEqualTo(new PopulateResult(2, 2, 3));
+        assertThat(second).isEqualTo(new PopulateResult(2, 0, 0));
+        assertThat(requests).hasValue(2);
+        assertThat(Mirror.pathIn(mirror, origin("/jdks/b.tar.gz"))).hasContent("bb");
+    }
+
+    @Test
+    void mirrorsReleaseDocumentWithItsAssets() {
+        files.put("/repos/catalog/releases/latest",
+            "{\"assets\": [{\"browser_download_url\": \"" + origin("/download/catalog.zip") + "\"}]}");
+        files.put("/download/catalog.zip", "catalog");
+
+        PopulateResult result = new MirrorPopulator(mirror).populateRelease(origin("/repos/catalog/releases/latest"), 1);
+
+        assertThat(result).isEqualTo(new PopulateResult(1, 1, 7));
+        assertThat(Mirror.pathIn(mirror, origin("/repos/catalog/releases/latest"))).exists();
+        assertThat(Mirror.pathIn(mirror, origin("/download/catalog.zip"))).hasContent("catalog");
+    }
+
+    @Test
+    void refetchesReleaseDocumentOnEveryRun() throws IOException {
+        MirrorPopulator populator = new MirrorPopulator(mirror);
+        files.put("/repos/catalog/releases/latest",
+            "{\"assets\": [{\"browser_download_url\": \"" + origin("/download/v1/catalog.zip") + "\"}]}");
+        files.put("/download/v1/catalog.zip", "v1");
+        populator.populateRelease(origin("/repos/catalog/releases/latest"), 1);
+
+        files.put("/repos/catalog/releases/latest",
+            "{\"assets\": [{\"browser_download_url\": \"" + origin("/download/v2/catalog.zip") + "\"}]}");
+        files.put("/download/v2/catalog.zip", "v2");
+        PopulateResult result = populator.populateRelease(origin("/repos/catalog/releases/latest"), 1);
+
+        assertThat(result).isEqualTo(new PopulateResult(1, 1, 2));
+        assertThat(Files.readString(Mirror.pathIn(mirror, origin("/repos/catalog/releases/latest"))))
+            .contains("/download/v2/catalog.zip");
+        assertThat(Mirror.pathIn(mirror, origin("/download/v2/catalog.zip"))).hasContent("v2");
+    }
+
+    @Test
+    void servesEncodedOriginsFromStaticServer() throws Exception {
+        files.put("/download/jdk-21.0.1+12/OpenJDK21.tar.gz", "jdk");
+        URI origin = origin("/download/jdk-21.0.1%2B12/OpenJDK21.tar.gz");
+        new MirrorPopulator(mirror).populate(List.of(origin), 1);
+
+        HttpServer staticServer = SimpleFileServer.createFileServer(new InetSocketAddress("127.0.0.1", 0),
+            mirror.toAbsolutePath(), SimpleFileServer.OutputLevel.NONE);
+        staticServer.start();
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            Mirror served = new Mirror(URI.create("http://127.0.0.1:" + staticServer.getAddress().getPort()));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(served.resolve(origin)).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo("jdk");
+        } finally {
+            staticServer.stop(0);
+        }
+    }
+
+    @Test
+    void servesIndirectDownloadsToRedirectedPorts() throws Exception {
+        files.put("/vendor/OpenJDK21.tar.gz", "jdk");
+        redirects.put("/ids/e0a6fc68/redirect", "/vendor/OpenJDK21.tar.gz");
+        URI indirect = origin("/ids/e0a6fc68/redirect");
+        new MirrorPopulator(mirror).populate(List.of(indirect), 1);
+        int populated = requests.get();
+
+        HttpServer staticServer = SimpleFileServer.createFileServer(new InetSocketAddress("127.0.0.1", 0),
+            mirror.toAbsolutePath(), SimpleFileServer.OutputLevel.NONE);
+        staticServer.start();
+
+        try (HttpClient client = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build()) {
+            Mirror served = new Mirror(URI.create("http://127.0.0.1:" + staticServer.getAddress().getPort()));
+            Download download = served.redirecting(Download.class, location ->
+                client.send(HttpRequest.newBuilder(location).build(), HttpResponse.BodyHandlers.ofString()).body());
+
+            assertThat(download.fetch(indirect)).isEqualTo("jdk");
+            assertThat(requests).hasValue(populated);
+        } finally {
+            staticServer.stop(0);
+        }
+    }
+
+    @Test
+    void leavesNoPartialFilesBehindOnFailure() throws IOException {
+        assertThatThrownBy(() -> new MirrorPopulator(mirror).populate(List.of(origin("/missing.tar.gz")), 1))
+            .isInstanceOf(UncheckedIOException.class);
+
+        try (var paths = Files.walk(mirror)) {
+            assertThat(paths.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    // stands in for the download service, which requests the indirect download location of a catalog entry
+    interface Download {
+        String fetch(URI location) throws Exception;
+    }
+
+    private URI origin(String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+}
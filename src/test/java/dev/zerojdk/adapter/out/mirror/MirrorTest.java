@@ -0,0 +1,61 @@
+package dev.zerojdk.adapter.out.mirror;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MirrorTest {
+    interface Fetcher {
+        String fetch(String location, URI uri, URL url, int attempt);
+    }
+
+    private final Mirror mirror = new Mirror(URI.create("http://mirror.lan/zjdk"));
+
+    @Test
+    void resolvesOriginBelowHostDirectory() {
+        assertThat(mirror.resolve(URI.create("https://github.com/adoptium/releases/download/x/OpenJDK21.tar.gz")))
+            .isEqualTo(URI.create("http://mirror.lan/zjdk/github.com/adoptium/releases/download/x/OpenJDK21.tar.gz"));
+    }
+
+    @Test
+    void mapsOriginIntoMirrorDirectory() {
+        Path root = Path.of("/srv/mirror");
+
+        assertThat(Mirror.pathIn(root, URI.create("https://API.github.com/repos/zero-jdk/catalog/releases/latest")))
+            .isEqualTo(root.resolve("api.github.com/repos/zero-jdk/catalog/releases/latest"));
+    }
+
+    @Test
+    void rejectsOriginsEscapingMirrorDirectory() {
+        assertThatThrownBy(() -> Mirror.pathIn(Path.of("/srv/mirror"), URI.create("https://evil.example/../../etc/passwd")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void redirectsRemoteLocationsPassedToPort() throws Exception {
+        Fetcher fetcher = mirror.redirecting(Fetcher.class,
+            (location, uri, url, attempt) -> location + " " + uri + " " + url + " " + attempt);
+
+        String result = fetcher.fetch("https://cdn.azul.com/zulu.zip", URI.create("https://github.com/a.tar.gz"),
+            URI.create("https://download.java.net/b.tar.gz").toURL(), 1);
+
+        assertThat(result).isEqualTo(String.join(" ",
+            "http://mirror.lan/zjdk/cdn.azul.com/zulu.zip",
+            "http://mirror.lan/zjdk/github.com/a.tar.gz",
+            "http://mirror.lan/zjdk/download.java.net/b.tar.gz",
+            "1"));
+    }
+
+    @Test
+    void leavesOtherArgumentsAlone() {
+        Fetcher fetcher = mirror.redirecting(Fetcher.class, (location, uri, url, attempt) -> location + " " + uri);
+
+        assertThat(fetcher.fetch("temurin-21", URI.create("http://mirror.lan/zjdk/github.com/a.tar.gz"), null, 0))
+            .isEqualTo("temurin-21 http://mirror.lan/zjdk/github.com/a.tar.gz");
+    }
+}
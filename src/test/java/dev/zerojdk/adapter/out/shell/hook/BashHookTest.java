@@ -0,0 +1,92 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BashHookTest {
+    @TempDir
+    private Path temp;
+
+    private ShellHookHarness harness;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assumeTrue(ShellHookHarness.isInstalled("bash"), "bash is not installed");
+
+        harness = new ShellHookHarness(temp, new BashHook(), "bash");
+    }
+
+    @Test
+    void changingDirectoriesBelowTheSameConfigDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            cd project/a/b/c && __zjdk_apply && report
+            cd .. && __zjdk_apply && cd ../.. && __zjdk_apply && report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void changingDirectoriesBelowASymlinkedProjectDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            cd linked/a/b/c && __zjdk_apply && report
+            cd .. && __zjdk_apply && cd ../.. && __zjdk_apply && report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void startsZjdkWhenTheGoverningConfigChanges() throws Exception {
+        List<String> output = run("""
+            cd project/a && __zjdk_apply && report
+            echo temurin-24 > ../.zjdk/config.properties && touch -d '+5 seconds' ../.zjdk/config.properties
+            __zjdk_apply && report
+            mkdir -p b/.zjdk && echo zulu-17 > b/.zjdk/config.properties && cd b && __zjdk_apply && report
+            cd ../.. && __zjdk_apply && report
+            """);
+
+        assertThat(output).containsExactly(
+            "1 /jdks/temurin-21",
+            "2 /jdks/temurin-24",
+            "3 /jdks/zulu-17",
+            "4 /jdks/temurin-24");
+    }
+
+    @Test
+    void startsZjdkAfterInstallationsChanged() throws Exception {
+        List<String> output = run("""
+            cd project && __zjdk_apply && report
+            mkdir -p "$ZJDK_BASE/cache" && touch -d '+5 seconds' "$ZJDK_BASE/cache/env.stamp"
+            __zjdk_apply && report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "2 /jdks/temurin-21");
+    }
+
+    @Test
+    void unsetsJavaHomeOutsideManagedDirectories() throws Exception {
+        List<String> output = run("""
+            cd project && __zjdk_apply && report
+            cd .. && __zjdk_apply && report
+            cd bin && __zjdk_apply && report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "2 ", "2 ");
+    }
+
+    private List<String> run(String steps) throws IOException, InterruptedException {
+        return harness.run("bash", "--noprofile", "--norc", "-c", """
+            source hook.bash
+            report() { echo "$(wc -l < "$ZJDK_CALLS" | tr -d ' ') ${JAVA_HOME:-}"; }
+            """ + steps);
+    }
+}
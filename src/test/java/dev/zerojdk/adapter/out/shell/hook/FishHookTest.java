@@ -0,0 +1,65 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FishHookTest {
+    @TempDir
+    private Path temp;
+
+    private ShellHookHarness harness;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assumeTrue(ShellHookHarness.isInstalled("fish"), "fish is not installed");
+
+        harness = new ShellHookHarness(temp, new FishHook(), "fish");
+    }
+
+    @Test
+    void changingDirectoriesBelowTheSameConfigDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            cd project/a/b/c; and __zjdk_apply; and report
+            cd ..; and __zjdk_apply; and cd ../..; and __zjdk_apply; and report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void changingDirectoriesBelowASymlinkedProjectDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            cd linked/a/b/c; and __zjdk_apply; and report
+            cd ..; and __zjdk_apply; and cd ../..; and __zjdk_apply; and report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void startsZjdkWhenTheGoverningConfigChanges() throws Exception {
+        List<String> output = run("""
+            cd project/a; and __zjdk_apply; and report
+            echo temurin-24 > ../.zjdk/config.properties; and touch -d '+5 seconds' ../.zjdk/config.properties
+            __zjdk_apply; and report
+            mkdir -p b/.zjdk; and echo zulu-17 > b/.zjdk/config.properties; and cd b; and __zjdk_apply; and report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "2 /jdks/temurin-24", "3 /jdks/zulu-17");
+    }
+
+    private List<String> run(String steps) throws IOException, InterruptedException {
+        return harness.run("fish", "--no-config", "-c", """
+            source hook.fish
+            function report; echo (count (cat $ZJDK_CALLS))" $JAVA_HOME"; end
+            """ + steps);
+    }
+}
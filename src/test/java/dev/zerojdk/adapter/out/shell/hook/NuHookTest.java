@@ -0,0 +1,67 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class NuHookTest {
+    @TempDir
+    private Path temp;
+
+    private ShellHookHarness harness;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assumeTrue(ShellHookHarness.isInstalled("nu"), "nushell is not installed");
+
+        harness = new ShellHookHarness(temp, new NuHook(), "nu");
+    }
+
+    @Test
+    void changingDirectoriesBelowTheSameConfigDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            cd project/a/b/c; __zjdk_apply; report
+            cd ..; __zjdk_apply; cd ../..; __zjdk_apply; report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void changingDirectoriesBelowASymlinkedProjectDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            cd linked/a/b/c; __zjdk_apply; report
+            cd ..; __zjdk_apply; cd ../..; __zjdk_apply; report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void startsZjdkWhenTheGoverningConfigChanges() throws Exception {
+        List<String> output = run("""
+            cd project/a; __zjdk_apply; report
+            "temurin-24\\n" | save --force ../.zjdk/config.properties
+            ^touch -d '+5 seconds' ../.zjdk/config.properties
+            __zjdk_apply; report
+            mkdir b/.zjdk; "zulu-17\\n" | save b/.zjdk/config.properties
+            cd b; __zjdk_apply; report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "2 /jdks/temurin-24", "3 /jdks/zulu-17");
+    }
+
+    private List<String> run(String steps) throws IOException, InterruptedException {
+        return harness.run("nu", "--no-config-file", "-c", """
+            source hook.nu
+            def report [] { print $"(open --raw $env.ZJDK_CALLS | lines | length) ($env.JAVA_HOME? | default '')" }
+            """ + steps);
+    }
+}
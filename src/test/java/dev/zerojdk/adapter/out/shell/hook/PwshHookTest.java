@@ -0,0 +1,68 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PwshHookTest {
+    @TempDir
+    private Path temp;
+
+    private ShellHookHarness harness;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assumeTrue(ShellHookHarness.isInstalled("pwsh"), "pwsh is not installed");
+
+        harness = new ShellHookHarness(temp, new PwshHook(), "ps1");
+    }
+
+    @Test
+    void changingDirectoriesBelowTheSameConfigDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            Set-Location project/a/b/c; __zjdkApply; report
+            Set-Location ..; __zjdkApply; Set-Location ../..; __zjdkApply; report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void changingDirectoriesBelowASymlinkedProjectDoesNotStartZjdk() throws Exception {
+        List<String> output = run("""
+            Set-Location linked/a/b/c; __zjdkApply; report
+            Set-Location ..; __zjdkApply; Set-Location ../..; __zjdkApply; report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "1 /jdks/temurin-21");
+    }
+
+    @Test
+    void startsZjdkWhenTheGoverningConfigChanges() throws Exception {
+        List<String> output = run("""
+            Set-Location project/a; __zjdkApply; report
+            Set-Content -Path ../.zjdk/config.properties -Value temurin-24
+            (Get-Item ../.zjdk/config.properties).LastWriteTimeUtc = [DateTime]::UtcNow.AddSeconds(5)
+            __zjdkApply; report
+            New-Item -ItemType Directory -Path b/.zjdk -Force | Out-Null
+            Set-Content -Path b/.zjdk/config.properties -Value zulu-17
+            Set-Location b; __zjdkApply; report
+            """);
+
+        assertThat(output).containsExactly("1 /jdks/temurin-21", "2 /jdks/temurin-24", "3 /jdks/zulu-17");
+    }
+
+    private List<String> run(String steps) throws IOException, InterruptedException {
+        return harness.run("pwsh", "-NoProfile", "-NonInteractive", "-Command", """
+            . ./hook.ps1
+            function report { "$(@(Get-Content $env:ZJDK_CALLS).Count) $env:JAVA_HOME" }
+            """ + steps);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Runs a generated hook in its shell against a fake zjdk that counts its invocations and resolves JAVA_HOME to
+ * {@code /jdks/<content of the governing config>}, reporting the config's physical location like zjdk does. The
+ * working directory holds the hook as {@code hook.<ext>}, a project with a config and the nested directories
+ * {@code a/b/c}, and a symbolic link {@code linked} to the project. The hook is generated for the base directory
+ * {@code zjdk-home}, outside of the home directory, which the shell sees as {@code ZJDK_BASE}.
+ */
+class ShellHookHarness {
+    private static final String FAKE_ZJDK = """
+        #!/bin/sh
+        echo call >> "$ZJDK_CALLS"
+        dir="$(pwd -P)"; config=""
+        while :; do
+          if [ -f "$dir/.zjdk/config.properties" ]; then config="$dir/.zjdk/config.properties"; break; fi
+          [ -z "$dir" ] && break
+          dir="${dir%/*}"
+        done
+        if [ -n "$config" ]; then
+          echo "export JAVA_HOME=\\"/jdks/$(cat "$config")\\""
+          echo 'export PATH="$JAVA_HOME/bin:$PATH"'
+        fi
+        echo "# zjdk-cache-key $config"
+        """;
+
+    private final Path directory;
+
+    ShellHookHarness(Path directory, ShellHook hook, String extension) throws IOException {
+        this.directory = directory;
+
+        Path bin = Files.createDirectories(this.directory.resolve("bin"));
+        Files.writeString(bin.resolve("zjdk"), FAKE_ZJDK);
+        Files.setPosixFilePermissions(bin.resolve("zjdk"), PosixFilePermissions.fromString("rwxr-xr-x"));
+        Files.createDirectories(this.directory.resolve("home"));
+
+        Path project = Files.createDirectories(this.directory.resolve("project"));
+        Files.createDirectories(project.resolve("a").resolve("b").resolve("c"));
+        Files.createDirectories(project.resolve(".zjdk"));
+        Files.writeString(project.resolve(".zjdk").resolve("config.properties"), "temurin-21\n");
+        Files.createSymbolicLink(this.directory.resolve("linked"), project);
+
+        Files.writeString(this.directory.resolve("hook." + extension), hook.content(zjdkHome()));
+        Files.createFile(this.directory.resolve("calls"));
+    }
+
+    private Path zjdkHome() {
+        return directory.resolve("zjdk-home");
+    }
+
+    static boolean isInstalled(String shell) {
+        return Stream.of(System.getenv("PATH").split(File.pathSeparator))
+            .anyMatch(dir -> Files.isExecutable(Path.of(dir, shell)));
+    }
+
+    List<String> run(String... command) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(new ArrayList<>(List.of(command)))
+            .directory(directory.toFile())
+            .redirectErrorStream(true);
+        Map<String, String> env = builder.environment();
+        env.remove("JAVA_HOME");
+        env.put("HOME", directory.resolve("home").toString());
+        env.put("TMPDIR", directory.toString());
+        env.put("ZJDK_CALLS", directory.resolve("calls").toString());
+        env.put("ZJDK_BASE", zjdkHome().toString());
+        env.put("ZJDK_DAEMON_SOCKET", directory.resolve("no-daemon.sock").toString());
+        env.put("PATH", directory.resolve("bin") + File.pathSeparator + env.get("PATH"));
+
+        Process process = builder.start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor();
+
+        return output.lines().toList();
+    }
+}
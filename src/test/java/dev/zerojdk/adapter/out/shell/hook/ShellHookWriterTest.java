@@ -0,0 +1,43 @@
+package dev.zerojdk.adapter.out.shell.hook;
+
+import dev.zerojdk.domain.service.shell.ShellExtensionWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShellHookWriterTest {
+    @TempDir
+    private Path temp;
+
+    @Test
+    void turnsTheLegacyScriptIntoAForwarder() throws IOException {
+        Path legacy = temp.resolve("legacy").resolve("zjdk.bash");
+        ShellExtensionWriter legacyWriter = mock(ShellExtensionWriter.class);
+        when(legacyWriter.write(any())).thenReturn(Files.createDirectories(legacy.getParent()).resolve("zjdk.bash"));
+
+        Path script = new ShellHookWriter(temp, () -> legacyWriter).write(new BashHook());
+
+        assertThat(script).hasContent(new BashHook().content(temp));
+        assertThat(script.getParent()).isEqualTo(temp.resolve("shell"));
+        assertThat(Files.readString(legacy)).contains("source \"" + script + "\"");
+    }
+
+    @Test
+    void leavesLegacyLocationsAloneForNewShells() {
+        ShellExtensionWriter legacyWriter = mock(ShellExtensionWriter.class);
+
+        new ShellHookWriter(temp, () -> legacyWriter).write(new FishHook());
+
+        verify(legacyWriter, never()).write(any());
+    }
+}
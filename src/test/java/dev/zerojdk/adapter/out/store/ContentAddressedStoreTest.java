@@ -0,0 +1,119 @@
+package dev.zerojdk.adapter.out.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentAddressedStoreTest {
+    @TempDir
+    private Path temp;
+
+    private Path first;
+    private Path second;
+    private ContentAddressedStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = Files.createDirectories(temp.resolve("jdks").resolve("temurin-21"));
+        second = Files.createDirectories(temp.resolve("jdks").resolve("temurin-21.0.1"));
+        store = new ContentAddressedStore(temp.resolve("store"));
+    }
+
+    @Test
+    void linksIdenticalFiles() throws IOException {
+        Files.writeString(first.resolve("release"), "JAVA_VERSION=21");
+        Files.writeString(second.resolve("release"), "JAVA_VERSION=21");
+
+        DeduplicationResult result = store.deduplicate(List.of(first, second));
+
+        assertThat(result.filesScanned()).isEqualTo(2);
+        assertThat(result.filesLinked()).isEqualTo(1);
+        assertThat(result.bytesReclaimed()).isEqualTo(15);
+        assertThat(Files.isSameFile(first.resolve("release"), second.resolve("release"))).isTrue();
+        assertThat(Files.readString(second.resolve("release"))).isEqualTo("JAVA_VERSION=21");
+    }
+
+    @Test
+    void keepsFilesWithDifferentContentOrPermissions() throws IOException {
+        Files.writeString(first.resolve("release"), "JAVA_VERSION=21");
+        Files.writeString(second.resolve("release"), "JAVA_VERSION=21.0.1");
+        Files.writeString(first.resolve("java"), "binary");
+        Files.writeString(second.resolve("java"), "binary");
+        Files.setPosixFilePermissions(second.resolve("java"), PosixFilePermissions.fromString("rwxr-xr-x"));
+
+        DeduplicationResult result = store.deduplicate(List.of(first, second));
+
+        assertThat(result.filesLinked()).isZero();
+        assertThat(Files.isSameFile(first.resolve("java"), second.resolve("java"))).isFalse();
+    }
+
+    @Test
+    void prunesEntriesOfRemovedInstallations() throws IOException {
+        Files.writeString(first.resolve("release"), "JAVA_VERSION=21");
+        store.deduplicate(List.of(first));
+
+        Files.delete(first.resolve("release"));
+
+        assertThat(store.prune()).isEqualTo(1);
+        assertThat(store.prune()).isZero();
+    }
+
+    @Test
+    void skipsFilesAlreadySharedWithTheStore() throws IOException {
+        Files.writeString(first.resolve("release"), "JAVA_VERSION=21");
+        Files.writeString(second.resolve("release"), "JAVA_VERSION=21");
+        store.deduplicate(List.of(first, second));
+
+        DeduplicationResult result = store.deduplicate(List.of(first, second));
+
+        assertThat(result.filesScanned()).isEqualTo(2);
+        assertThat(result.filesLinked()).isZero();
+        assertThat(Files.isSameFile(first.resolve("release"), second.resolve("release"))).isTrue();
+    }
+
+    @Test
+    void neverSharesFilesModifiedInPlace() throws IOException {
+        for (Path javaHome : List.of(first, second)) {
+            Files.createDirectories(javaHome.resolve("lib").resolve("security"));
+            Files.writeString(javaHome.resolve("lib").resolve("security").resolve("cacerts"), "trusted");
+            Files.createDirectories(javaHome.resolve("conf").resolve("security"));
+            Files.writeString(javaHome.resolve("conf").resolve("security").resolve("java.security"), "policy");
+        }
+
+        DeduplicationResult result = store.deduplicate(List.of(first, second));
+
+        assertThat(result.filesScanned()).isZero();
+        assertThat(Files.isSameFile(first.resolve("lib/security/cacerts"), second.resolve("lib/security/cacerts")))
+            .isFalse();
+        assertThat(temp.resolve("store")).doesNotExist();
+    }
+
+    @Test
+    void removesDirectoriesLeftEmptyByPruning() throws IOException {
+        Files.writeString(first.resolve("release"), "JAVA_VERSION=21");
+        Files.writeString(first.resolve("java"), "binary");
+        store.deduplicate(List.of(first));
+
+        Files.delete(first.resolve("release"));
+        store.prune();
+
+        try (var entries = Files.list(temp.resolve("store"))) {
+            assertThat(entries).hasSize(1);
+        }
+
+        Files.delete(first.resolve("java"));
+        store.prune();
+
+        try (var entries = Files.list(temp.resolve("store"))) {
+            assertThat(entries).isEmpty();
+        }
+    }
+}